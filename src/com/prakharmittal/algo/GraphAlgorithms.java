@@ -1,9 +1,9 @@
 package com.prakharmittal.algo;
 
 import com.prakharmittal.graph.*;
-import com.prakharmittal.hashing.DisjointSet;
 import com.prakharmittal.hashing.HashMap;
 import com.prakharmittal.hashing.HashSet;
+import com.prakharmittal.hashing.IndexedDisjointSet;
 import com.prakharmittal.linear.PriorityQueueMinHeap;
 import com.prakharmittal.linear.QueueLinkedList;
 import com.prakharmittal.list.ArrayList;
@@ -174,7 +174,7 @@ public class GraphAlgorithms {
         if (graph == null) {
             throw new IllegalArgumentException("The graph must not be null.");
         }
-        DisjointSet<Vertex<T>> disjointSet = new DisjointSet<>(graph.getVertices());
+        IndexedDisjointSet<Vertex<T>> disjointSet = new IndexedDisjointSet<>(graph.getVertices());
         HashSet<Edge<T>> edgeSet = new HashSet<>();
         PriorityQueueMinHeap<Edge<T>> priorityQueue = new PriorityQueueMinHeap<>();
         for (Edge<T> edge: graph.getEdges()) {
@@ -182,10 +182,9 @@ public class GraphAlgorithms {
         }
         while (!priorityQueue.isEmpty() && edgeSet.size() < 2 * (graph.getVertices().size() - 1)) {
             Edge<T> current = priorityQueue.remove();
-            if (!disjointSet.find(current.getU()).equals(disjointSet.find(current.getV()))) {
+            if (disjointSet.union(current.getU(), current.getV())) {
                 edgeSet.add(current);
                 edgeSet.add(new Edge<>(current.getV(), current.getU(), current.getWeight()));
-                disjointSet.union(current.getU(), current.getV());
             }
         }
         return edgeSet;
@@ -35,12 +35,7 @@ public class PatternMatching {
             if (j == -1) {
                 found.addToBack(i++);
             } else {
-                int shift;
-                try {
-                    shift = lastTable.get(text.charAt(i + j));
-                } catch (Exception e) {
-                    shift = -1;
-                }
+                int shift = lastTable.getOrDefault(text.charAt(i + j), -1);
                 if (shift < j) {
                     i += j - shift;
                 } else {
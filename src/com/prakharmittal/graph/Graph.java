@@ -23,10 +23,11 @@ public class Graph<T> {
             adjList.put(vertex, new ArrayList<>());
         }
         for (Edge<T> edge: edges) {
-            if (!adjList.contains(edge.getU()) || !adjList.contains(edge.getV())) {
+            ArrayList<VertexDistance<T>> neighbors = adjList.getOrDefault(edge.getU(), null);
+            if (neighbors == null || !adjList.contains(edge.getV())) {
                 throw new IllegalArgumentException("Edge with non-existent vertex found.");
             }
-            adjList.get(edge.getU()).addToBack(new VertexDistance<>(edge.getV(), edge.getWeight()));
+            neighbors.addToBack(new VertexDistance<>(edge.getV(), edge.getWeight()));
         }
     }
 
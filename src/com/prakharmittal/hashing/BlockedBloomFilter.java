@@ -0,0 +1,110 @@
+package com.prakharmittal.hashing;
+
+// Every key's bits fall in one 512-bit block, so a lookup touches a single cache line
+public class BlockedBloomFilter<K> {
+
+    private final long[] bits;
+    private final int blocks;
+    private final int hashFunctions;
+    private long bitCount;
+
+    static final int BLOCK_BITS = 512;
+    static final int BLOCK_WORDS = BLOCK_BITS / 64;
+
+    public BlockedBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long optimal = BloomFilter.optimalBits(expectedInsertions, falsePositiveRate);
+        blocks = (int) Math.min(Integer.MAX_VALUE / BLOCK_WORDS, (optimal + BLOCK_BITS - 1) / BLOCK_BITS);
+        bits = new long[blocks * BLOCK_WORDS];
+        hashFunctions = BloomFilter.optimalHashFunctions(expectedInsertions, optimal);
+    }
+
+    public boolean put(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        }
+        long hash = Hashing.fmix64(key.hashCode());
+        int base = blockOf(hash) * BLOCK_WORDS;
+        long inner = Hashing.fmix64(hash);
+        int h1 = (int) inner;
+        int h2 = (int) (inner >>> 32) | 1;
+        boolean changed = false;
+        for (int i = 1; i <= hashFunctions; i++) {
+            int bit = (h1 + i * h2) & (BLOCK_BITS - 1);
+            long mask = 1L << bit;
+            int word = base + (bit >>> 6);
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                bitCount++;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        long hash = Hashing.fmix64(key.hashCode());
+        int base = blockOf(hash) * BLOCK_WORDS;
+        long inner = Hashing.fmix64(hash);
+        int h1 = (int) inner;
+        int h2 = (int) (inner >>> 32) | 1;
+        for (int i = 1; i <= hashFunctions; i++) {
+            int bit = (h1 + i * h2) & (BLOCK_BITS - 1);
+            if ((bits[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Multiply-shift maps the high hash bits onto [0, blocks) without a division
+    private int blockOf(long hash) {
+        return (int) (((hash >>> 32) * blocks) >>> 32);
+    }
+
+    public void merge(BlockedBloomFilter<K> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The filter to be merged must not be null.");
+        } else if (other.blocks != blocks || other.hashFunctions != hashFunctions) {
+            throw new IllegalArgumentException("Only filters with the same size and hash functions can be merged.");
+        }
+        bitCount = 0;
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] |= other.bits[i];
+            bitCount += Long.bitCount(bits[i]);
+        }
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount / getBitSize(), hashFunctions);
+    }
+
+    public void clear() {
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = 0;
+        }
+        bitCount = 0;
+    }
+
+    public long getBitSize() {
+        return 64L * bits.length;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    int getBlocks() {
+        return blocks;
+    }
+
+    long[] getBits() {
+        return bits;
+    }
+}
@@ -0,0 +1,117 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BlockedBloomFilterTest {
+
+    private static final int TIMEOUT = 2000;
+    private BlockedBloomFilter<Integer> filter;
+
+    @Before
+    public void setUp() {
+        filter = new BlockedBloomFilter<>(10000, 0.01);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, filter.getBitCount());
+        assertEquals(7, filter.getHashFunctions());
+        assertTrue(filter.getBitSize() >= 95851);
+        assertEquals(0, filter.getBitSize() % 64);
+        assertEquals(0, filter.expectedFalsePositiveRate(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> {
+            new BlockedBloomFilter<Integer>(0, 0.01);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new BlockedBloomFilter<Integer>(100, 0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new BlockedBloomFilter<Integer>(100, 1);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_NullKey() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            filter.put(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            filter.mightContain(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_Put() {
+        assertFalse(filter.mightContain(5));
+        assertTrue(filter.put(5));
+        assertFalse(filter.put(5));
+        assertTrue(filter.mightContain(5));
+        assertTrue(filter.getBitCount() > 0 && filter.getBitCount() <= filter.getHashFunctions());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_NoFalseNegatives() {
+        for (int i = 0; i < 10000; i++) {
+            filter.put(i * 7);
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(filter.mightContain(i * 7));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_FalsePositiveRate() {
+        for (int i = 0; i < 10000; i++) {
+            filter.put(i);
+        }
+        int falsePositives = 0;
+        for (int i = 10000; i < 110000; i++) {
+            if (filter.mightContain(i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2500);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_Merge() {
+        BlockedBloomFilter<Integer> other = new BlockedBloomFilter<>(10000, 0.01);
+        for (int i = 0; i < 100; i++) {
+            filter.put(i);
+            other.put(-i - 1);
+        }
+        filter.merge(other);
+        for (int i = -100; i < 100; i++) {
+            assertTrue(filter.mightContain(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            filter.merge(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            filter.merge(new BlockedBloomFilter<>(100, 0.01));
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_Clear() {
+        for (int i = 0; i < 100; i++) {
+            filter.put(i);
+        }
+        filter.clear();
+        assertEquals(0, filter.getBitCount());
+        for (int i = 0; i < 100; i++) {
+            assertFalse(filter.mightContain(i));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.prakharmittal.hashing;
+
+public class BloomFilter<K> {
+
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private long bitCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long optimal = optimalBits(expectedInsertions, falsePositiveRate);
+        bits = new long[(int) ((optimal + 63) / 64)];
+        bitSize = 64L * bits.length;
+        hashFunctions = optimalHashFunctions(expectedInsertions, optimal);
+    }
+
+    // Returns true if any bit changed, i.e. the key was definitely not present before
+    public boolean put(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        }
+        long hash = Hashing.fmix64(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        boolean changed = false;
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                bitCount++;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        long hash = Hashing.fmix64(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void merge(BloomFilter<K> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The filter to be merged must not be null.");
+        } else if (other.bitSize != bitSize || other.hashFunctions != hashFunctions) {
+            throw new IllegalArgumentException("Only filters with the same size and hash functions can be merged.");
+        }
+        bitCount = 0;
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] |= other.bits[i];
+            bitCount += Long.bitCount(bits[i]);
+        }
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount / bitSize, hashFunctions);
+    }
+
+    public void clear() {
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = 0;
+        }
+        bitCount = 0;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    long[] getBits() {
+        return bits;
+    }
+
+    // m = -n ln p / (ln 2)^2
+    static long optimalBits(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("The expected number of insertions must be positive.");
+        } else if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("The false positive rate must be between 0 and 1.");
+        }
+        long optimal = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        if (optimal > 64L * Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The filter would need more than " + 64L * Integer.MAX_VALUE + " bits.");
+        }
+        return Math.max(1, optimal);
+    }
+
+    // k = m / n ln 2
+    static int optimalHashFunctions(long expectedInsertions, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+}
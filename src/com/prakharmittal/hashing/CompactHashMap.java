@@ -0,0 +1,343 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Entries live densely in insertion order and the hash table only holds their positions, as in CPython's dict
+public class CompactHashMap<K, V> implements Iterable<CompactHashMap.Entry<K, V>> {
+
+    private Entry<K, V>[] entries;
+    private int used;
+    private int size;
+    private short[] shortIndex;
+    private int[] intIndex;
+    private int mask;
+
+    public static final int INITIAL_CAPACITY = 8;
+
+    private static final int EMPTY = -1;
+    private static final int DELETED = -2;
+
+    public CompactHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public CompactHashMap(int initialCapacity) {
+        allocate(initialCapacity);
+    }
+
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        int hash = Hashing.mix(key.hashCode());
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            Entry<K, V> entry = entries[indexAt(slot)];
+            V output = entry.getValue();
+            entry.setValue(value);
+            return output;
+        }
+        insert(key, value, hash);
+        return null;
+    }
+
+    public V putIfAbsent(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        int hash = Hashing.mix(key.hashCode());
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            return entries[indexAt(slot)].getValue();
+        }
+        insert(key, value, hash);
+        return null;
+    }
+
+    private void insert(K key, V value, int hash) {
+        if (used == entries.length) {
+            // Dropping the holes left by removals may be enough, otherwise the map grows
+            allocate(Math.max(INITIAL_CAPACITY, 2 * (size + 1)));
+        }
+        int slot = hash & mask;
+        while (indexAt(slot) >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        entries[used] = new Entry<>(key, value, hash);
+        setIndexAt(slot, used++);
+        size++;
+    }
+
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be removed must not be null.");
+        }
+        int slot = find(key, Hashing.mix(key.hashCode()));
+        if (slot < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        int index = indexAt(slot);
+        V output = entries[index].getValue();
+        entries[index] = null;
+        setIndexAt(slot, DELETED);
+        size--;
+        // Keeps iteration proportional to size by never letting holes outnumber live entries
+        if (used - size > size && used > INITIAL_CAPACITY) {
+            allocate(2 * size);
+        }
+        return output;
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        int slot = find(key, Hashing.mix(key.hashCode()));
+        if (slot < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        return entries[indexAt(slot)].getValue();
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        int slot = find(key, Hashing.mix(key.hashCode()));
+        return slot < 0 ? defaultValue : entries[indexAt(slot)].getValue();
+    }
+
+    public boolean contains(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        return find(key, Hashing.mix(key.hashCode())) >= 0;
+    }
+
+    // Returns the slot of the index table holding the key's position, or -1
+    private int find(Object key, int hash) {
+        int slot = hash & mask;
+        int index = indexAt(slot);
+        while (index != EMPTY) {
+            if (index >= 0) {
+                Entry<K, V> entry = entries[index];
+                if (entry.hash == hash && entry.getKey().equals(key)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+            index = indexAt(slot);
+        }
+        return -1;
+    }
+
+    private int indexAt(int slot) {
+        return shortIndex != null ? shortIndex[slot] : intIndex[slot];
+    }
+
+    private void setIndexAt(int slot, int index) {
+        if (shortIndex != null) {
+            shortIndex[slot] = (short) index;
+        } else {
+            intIndex[slot] = index;
+        }
+    }
+
+    // Compacts the live entries into a new array of at least the given capacity and rebuilds the index over them
+    private void allocate(int capacity) {
+        int length = Hashing.tableSizeFor(Math.max(INITIAL_CAPACITY, capacity) * 3 / 2 + 1);
+        Entry<K, V>[] previous = entries;
+        int previousUsed = used;
+        entries = new Entry[length / 3 * 2];
+        mask = length - 1;
+        // A short can name every entry of a small map, so the index costs two bytes a slot instead of four
+        if (entries.length <= Short.MAX_VALUE) {
+            shortIndex = new short[length];
+            intIndex = null;
+            Arrays.fill(shortIndex, (short) EMPTY);
+        } else {
+            intIndex = new int[length];
+            shortIndex = null;
+            Arrays.fill(intIndex, EMPTY);
+        }
+        used = 0;
+        for (int i = 0; i < previousUsed; i++) {
+            Entry<K, V> entry = previous[i];
+            if (entry != null) {
+                int slot = entry.hash & mask;
+                while (indexAt(slot) != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                entries[used] = entry;
+                setIndexAt(slot, used++);
+            }
+        }
+    }
+
+    public ArrayList<K> keys() {
+        ArrayList<K> output = new ArrayList<>(size);
+        for (Entry<K, V> entry: this) {
+            output.addToBack(entry.getKey());
+        }
+        return output;
+    }
+
+    public ArrayList<V> values() {
+        ArrayList<V> output = new ArrayList<>(size);
+        for (Entry<K, V> entry: this) {
+            output.addToBack(entry.getValue());
+        }
+        return output;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        entries = null;
+        used = 0;
+        size = 0;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof CompactHashMap<?, ?>) {
+            CompactHashMap<Object, Object> other = (CompactHashMap<Object, Object>) o;
+            if (size == other.size) {
+                for (Entry<K, V> entry: this) {
+                    Object value = other.getOrDefault(entry.getKey(), null);
+                    if (value == null || !value.equals(entry.getValue())) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (Entry<K, V> entry: this) {
+            hashCode ^= entry.getKey().hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String prefix = "";
+        builder.append("[");
+        for (Entry<K, V> entry: this) {
+            builder.append(prefix);
+            prefix = ", ";
+            builder.append(entry.toString());
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    Entry<K, V>[] getEntries() {
+        return entries;
+    }
+
+    short[] getShortIndex() {
+        return shortIndex;
+    }
+
+    int[] getIntIndex() {
+        return intIndex;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new CompactHashMapIterator();
+    }
+
+    static class Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private final int hash;
+
+        private Entry(K key, V value, int hash) {
+            this.key = key;
+            this.value = value;
+            this.hash = hash;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        private void setValue(V value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s=%s", key.toString(), value.toString());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof Entry<?, ?>) {
+                Entry<?, ?> e = (Entry<?, ?>) o;
+                return e.getKey().equals(key) && e.getValue().equals(value);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+    }
+
+    private class CompactHashMapIterator implements Iterator<Entry<K, V>> {
+
+        private int i;
+
+        private CompactHashMapIterator() {
+            i = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (i < used && entries[i] == null) {
+                i++;
+            }
+            return i < used;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (hasNext()) {
+                return entries[i++];
+            }
+            return null;
+        }
+    }
+}
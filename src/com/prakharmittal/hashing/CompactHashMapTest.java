@@ -0,0 +1,164 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CompactHashMapTest {
+
+    private static final int TIMEOUT = 2000;
+    private CompactHashMap<Integer, String> map;
+
+    @Before
+    public void setUp() {
+        map = new CompactHashMap<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, map.size());
+        assertTrue(map.isEmpty());
+        assertEquals(10, map.getEntries().length);
+        assertEquals(16, map.getShortIndex().length);
+        assertNull(map.getIntIndex());
+        assertEquals("[]", map.toString());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_NullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(null, "A");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(1, null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.remove(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.get(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.contains(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_PutGetRemove() {
+        assertNull(map.put(3, "C"));
+        assertNull(map.put(1, "A"));
+        assertNull(map.put(2, "B"));
+        assertEquals("A", map.put(1, "AA"));
+        assertEquals("AA", map.putIfAbsent(1, "X"));
+        assertEquals(3, map.size());
+        assertEquals("AA", map.get(1));
+        assertEquals("Z", map.getOrDefault(4, "Z"));
+        assertEquals("C", map.remove(3));
+        assertFalse(map.contains(3));
+        assertThrows(NoSuchElementException.class, () -> {
+            map.remove(3);
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            map.get(3);
+        });
+        assertEquals(2, map.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_InsertionOrder() {
+        for (int i = 9; i >= 0; i--) {
+            map.put(i * 100, "V" + i);
+        }
+        map.remove(500);
+        map.put(900, "New");
+        map.put(500, "Back");
+        assertEquals("[900=New, 800=V8, 700=V7, 600=V6, 400=V4, 300=V3, 200=V2, 100=V1, 0=V0, 500=Back]",
+                map.toString());
+        assertEquals(Integer.valueOf(900), map.keys().get(0));
+        assertEquals("Back", map.values().get(9));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_RemovalsCompact() {
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "V" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            if (i % 10 != 0) {
+                map.remove(i);
+            }
+        }
+        assertEquals(100, map.size());
+        // Holes never outnumber live entries, so iteration stays proportional to size
+        int used = 0;
+        for (int i = 0; i < map.getEntries().length; i++) {
+            if (map.getEntries()[i] != null) {
+                used = i + 1;
+            }
+        }
+        assertTrue(used <= 200);
+        assertTrue(map.getEntries().length < 400);
+        int expected = 0;
+        for (CompactHashMap.Entry<Integer, String> entry: map) {
+            assertEquals(Integer.valueOf(expected), entry.getKey());
+            expected += 10;
+        }
+        assertEquals(1000, expected);
+        for (int i = 0; i < 1000; i += 10) {
+            map.remove(i);
+        }
+        assertTrue(map.isEmpty());
+        assertTrue(map.getEntries().length <= 2 * CompactHashMap.INITIAL_CAPACITY + 4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_WideIndex() {
+        CompactHashMap<Integer, Integer> large = new CompactHashMap<>();
+        for (int i = 0; i < 40000; i++) {
+            large.put(i, i);
+        }
+        assertNull(large.getShortIndex());
+        assertNotNull(large.getIntIndex());
+        for (int i = 0; i < 40000; i++) {
+            assertEquals(Integer.valueOf(i), large.get(i));
+        }
+        for (int i = 0; i < 40000; i += 2) {
+            large.remove(i);
+        }
+        for (int i = 0; i < 40000; i++) {
+            assertEquals(i % 2 == 1, large.contains(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_EqualsHashCodeClear() {
+        CompactHashMap<Integer, String> other = new CompactHashMap<>(100);
+        for (int i = 0; i < 50; i++) {
+            map.put(i, "V" + i);
+            other.put(49 - i, "V" + (49 - i));
+        }
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+        other.put(0, "X");
+        assertNotEquals(map, other);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.iterator().hasNext());
+        assertNull(map.iterator().next());
+        map.put(1, "A");
+        assertEquals("[1=A]", map.toString());
+    }
+}
@@ -0,0 +1,203 @@
+package com.prakharmittal.hashing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConcurrentHashSet<K> {
+
+    private final AtomicReference<Table> table;
+    private final LongAdder size = new LongAdder();
+
+    public static final int INITIAL_CAPACITY = 16;
+    public static final double MAX_LOAD_FACTOR = 0.5;
+
+    static final int TRANSFER_STRIDE = 64;
+
+    private static final Object SEALED = new Object();
+
+    public ConcurrentHashSet() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ConcurrentHashSet(int initialCapacity) {
+        table = new AtomicReference<>(new Table(Hashing.tableSizeFor(initialCapacity)));
+    }
+
+    public boolean add(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        }
+        int hash = Hashing.mix(key.hashCode());
+        Table current = table.get();
+        while (true) {
+            int mask = current.slots.length() - 1;
+            int index = hash & mask;
+            int p = 0;
+            Table next = null;
+            while (next == null && p <= mask) {
+                Object slot = current.slots.get(index);
+                if (slot == null) {
+                    if (current.slots.compareAndSet(index, null, key)) {
+                        size.increment();
+                        maybeResize();
+                        return true;
+                    }
+                    continue;
+                } else if (slot == SEALED) {
+                    next = current.next.get();
+                } else if (slot.equals(key)) {
+                    return false;
+                }
+                p++;
+                index = (index + 1) & mask;
+            }
+            if (next == null) {
+                startResize(current);
+                next = current.next.get();
+            }
+            helpTransfer(current);
+            current = next;
+        }
+    }
+
+    public boolean contains(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        int hash = Hashing.mix(key.hashCode());
+        Table current = table.get();
+        while (current != null) {
+            int mask = current.slots.length() - 1;
+            int index = hash & mask;
+            for (int p = 0; p <= mask; p++) {
+                Object slot = current.slots.get(index);
+                if (slot == null) {
+                    return false;
+                } else if (slot == SEALED) {
+                    break;
+                } else if (slot.equals(key)) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            current = current.next.get();
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        return (int) size.sum();
+    }
+
+    // Adds can run ahead of a slow transfer, so the load is always checked against the newest table
+    private void maybeResize() {
+        Table current = table.get();
+        while (current.next.get() != null) {
+            helpTransfer(current);
+            current = current.next.get();
+        }
+        if (size.sum() > MAX_LOAD_FACTOR * current.slots.length()) {
+            startResize(current);
+            helpTransfer(current);
+        }
+    }
+
+    private void startResize(Table current) {
+        if (current.next.get() == null) {
+            current.next.compareAndSet(null, new Table(2 * current.slots.length()));
+        }
+    }
+
+    private void helpTransfer(Table current) {
+        Table next = current.next.get();
+        int length = current.slots.length();
+        int start = current.claimed.get();
+        while (start < length) {
+            if (current.claimed.compareAndSet(start, start + TRANSFER_STRIDE)) {
+                int end = Math.min(length, start + TRANSFER_STRIDE);
+                for (int i = start; i < end; i++) {
+                    transfer(current, next, i);
+                }
+                if (current.finished.addAndGet(end - start) == length) {
+                    advance();
+                }
+            }
+            start = current.claimed.get();
+        }
+    }
+
+    private void advance() {
+        Table current = table.get();
+        while (current.finished.get() == current.slots.length()) {
+            table.compareAndSet(current, current.next.get());
+            current = table.get();
+        }
+    }
+
+    // Empty slots are sealed so no later add can land behind the copy; keys stay put for readers
+    // still probing the old table, since a key only ever precedes the first empty slot of its run
+    private void transfer(Table current, Table next, int index) {
+        while (true) {
+            Object slot = current.slots.get(index);
+            if (slot == null) {
+                if (current.slots.compareAndSet(index, null, SEALED)) {
+                    return;
+                }
+            } else {
+                if (slot != SEALED) {
+                    copy(next, slot);
+                }
+                return;
+            }
+        }
+    }
+
+    private void copy(Table next, Object key) {
+        int hash = Hashing.mix(key.hashCode());
+        while (true) {
+            int mask = next.slots.length() - 1;
+            int index = hash & mask;
+            int p = 0;
+            while (p <= mask) {
+                Object slot = next.slots.get(index);
+                if (slot == null) {
+                    if (next.slots.compareAndSet(index, null, key)) {
+                        return;
+                    }
+                    continue;
+                } else if (slot == SEALED) {
+                    break;
+                } else if (slot.equals(key)) {
+                    return;
+                }
+                p++;
+                index = (index + 1) & mask;
+            }
+            startResize(next);
+            helpTransfer(next);
+            next = next.next.get();
+        }
+    }
+
+    AtomicReferenceArray<Object> getTable() {
+        return table.get().slots;
+    }
+
+    private static final class Table {
+
+        private final AtomicReferenceArray<Object> slots;
+        private final AtomicReference<Table> next = new AtomicReference<>();
+        private final AtomicInteger claimed = new AtomicInteger();
+        private final AtomicInteger finished = new AtomicInteger();
+
+        private Table(int length) {
+            slots = new AtomicReferenceArray<>(length);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ConcurrentHashSetTest {
+
+    private static final int TIMEOUT = 2000;
+    private static final int THREADS = 4;
+    private ConcurrentHashSet<Integer> set;
+
+    @Before
+    public void setUp() {
+        set = new ConcurrentHashSet<>(5);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, set.size());
+        assertTrue(set.isEmpty());
+        assertEquals(8, set.getTable().length());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_NullKey() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            set.add(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            set.contains(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_Add() {
+        assertTrue(set.add(0));
+        assertTrue(set.add(8));
+        assertTrue(set.add(-3));
+        assertFalse(set.add(8));
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(8));
+        assertTrue(set.contains(-3));
+        assertFalse(set.contains(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_AddResize() {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set.add(i));
+        }
+        assertEquals(1000, set.size());
+        assertEquals(2048, set.getTable().length());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set.contains(i));
+            assertFalse(set.add(i));
+        }
+        assertFalse(set.contains(1000));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_ConcurrentAddDisjoint() throws InterruptedException {
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = offset; i < 40000; i += THREADS) {
+                    set.add(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread: threads) {
+            thread.join();
+        }
+        assertEquals(40000, set.size());
+        for (int i = 0; i < 40000; i++) {
+            assertTrue(set.contains(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_ConcurrentAddContended() throws InterruptedException {
+        AtomicInteger added = new AtomicInteger();
+        boolean[] missed = new boolean[1];
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    if (set.add(i)) {
+                        added.incrementAndGet();
+                    }
+                    if (!set.contains(i)) {
+                        missed[0] = true;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread: threads) {
+            thread.join();
+        }
+        assertFalse(missed[0]);
+        assertEquals(20000, added.get());
+        assertEquals(20000, set.size());
+    }
+}
@@ -0,0 +1,97 @@
+package com.prakharmittal.hashing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Lock-free union-find in the style of Jayanti and Tarjan, roots are only ever linked by a CAS on their own slot
+public class ConcurrentIntDisjointSet {
+
+    private final AtomicIntegerArray parent;
+    private final AtomicInteger components;
+
+    public ConcurrentIntDisjointSet(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size must not be negative.");
+        }
+        parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parent.set(i, i);
+        }
+        components = new AtomicInteger(size);
+    }
+
+    // Path splitting, a failed CAS only means another thread already shortened the path
+    public int find(int element) {
+        checkElement(element);
+        while (true) {
+            int next = parent.get(element);
+            if (next == element) {
+                return element;
+            }
+            int grandparent = parent.get(next);
+            if (next != grandparent) {
+                parent.compareAndSet(element, next, grandparent);
+            }
+            element = next;
+        }
+    }
+
+    public boolean union(int element1, int element2) {
+        while (true) {
+            int root1 = find(element1);
+            int root2 = find(element2);
+            if (root1 == root2) {
+                return false;
+            }
+            // Linking the lower priority root keeps trees shallow and makes a cycle impossible
+            if (precedes(root2, root1)) {
+                int temp = root1;
+                root1 = root2;
+                root2 = temp;
+            }
+            if (parent.compareAndSet(root1, root1, root2)) {
+                components.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // The answer is only final once the first root is seen to still be a root after both finds
+    public boolean connected(int element1, int element2) {
+        while (true) {
+            int root1 = find(element1);
+            int root2 = find(element2);
+            if (root1 == root2) {
+                return true;
+            } else if (parent.get(root1) == root1) {
+                return false;
+            }
+        }
+    }
+
+    public int getComponentCount() {
+        return components.get();
+    }
+
+    public int size() {
+        return parent.length();
+    }
+
+    // A fixed pseudo-random order of the elements, ties broken by index
+    private static boolean precedes(int element1, int element2) {
+        int priority1 = Hashing.mix(element1);
+        int priority2 = Hashing.mix(element2);
+        return priority1 < priority2 || (priority1 == priority2 && element1 < element2);
+    }
+
+    private void checkElement(int element) {
+        if (element < 0 || element >= parent.length()) {
+            throw new IndexOutOfBoundsException("The element entered (" + element
+                    + ") is not in the range 0 to " + (parent.length() - 1) + ".");
+        }
+    }
+
+    AtomicIntegerArray getParent() {
+        return parent;
+    }
+}
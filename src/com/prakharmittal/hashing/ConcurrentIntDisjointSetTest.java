@@ -0,0 +1,127 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ConcurrentIntDisjointSetTest {
+
+    private static final int TIMEOUT = 2000;
+    private static final int THREADS = 4;
+    private ConcurrentIntDisjointSet set;
+
+    @Before
+    public void setUp() {
+        set = new ConcurrentIntDisjointSet(10);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(10, set.size());
+        assertEquals(10, set.getComponentCount());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, set.find(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ConcurrentIntDisjointSet(-1);
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            set.find(10);
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            set.union(-1, 0);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_FindAndUnion() {
+        assertTrue(set.union(1, 2));
+        assertFalse(set.union(2, 1));
+        assertTrue(set.union(3, 4));
+        assertTrue(set.connected(1, 2));
+        assertFalse(set.connected(1, 3));
+        assertTrue(set.union(2, 4));
+        assertTrue(set.connected(1, 3));
+        assertEquals(set.find(1), set.find(4));
+        assertEquals(7, set.getComponentCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_PathSplitting() {
+        ConcurrentIntDisjointSet chain = new ConcurrentIntDisjointSet(5);
+        for (int i = 0; i < 4; i++) {
+            chain.getParent().set(i, i + 1);
+        }
+        assertEquals(4, chain.find(0));
+        assertEquals(2, chain.getParent().get(0));
+        assertEquals(3, chain.getParent().get(1));
+        assertEquals(4, chain.getParent().get(2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_ConcurrentUnion() throws InterruptedException {
+        ConcurrentIntDisjointSet large = new ConcurrentIntDisjointSet(100000);
+        AtomicInteger merged = new AtomicInteger();
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                // Every thread unions the same even-odd pairs and then chains the evens, in a different order
+                for (int i = 0; i < 100000; i += 2) {
+                    int j = (i + offset * 25000) % 100000;
+                    if (large.union(j, j + 1)) {
+                        merged.incrementAndGet();
+                    }
+                }
+                for (int i = 0; i < 100000 - 2; i += 2) {
+                    int j = (i + offset * 24998) % (100000 - 2);
+                    if (large.union(j, j + 2)) {
+                        merged.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread: threads) {
+            thread.join();
+        }
+        assertEquals(99999, merged.get());
+        assertEquals(1, large.getComponentCount());
+        for (int i = 1; i < 100000; i++) {
+            assertTrue(large.connected(0, i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_ConcurrentComponents() throws InterruptedException {
+        ConcurrentIntDisjointSet large = new ConcurrentIntDisjointSet(40000);
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = offset; i < 40000; i += THREADS) {
+                    large.union(i, i % 10);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread: threads) {
+            thread.join();
+        }
+        assertEquals(10, large.getComponentCount());
+        for (int i = 0; i < 40000; i++) {
+            assertTrue(large.connected(i, i % 10));
+            assertFalse(large.connected(i, (i + 1) % 10));
+        }
+    }
+}
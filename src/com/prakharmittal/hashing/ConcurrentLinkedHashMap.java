@@ -0,0 +1,284 @@
+package com.prakharmittal.hashing;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConcurrentLinkedHashMap<K, V> {
+
+    private final AtomicReference<Resize<K, V>> resize;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final LongAdder size = new LongAdder();
+
+    public static final int INITIAL_CAPACITY = 16;
+    public static final double MAX_LOAD_FACTOR = 0.75;
+    public static final int LOCK_STRIPES = 16;
+
+    static final int TRANSFER_STRIDE = 16;
+
+    public ConcurrentLinkedHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ConcurrentLinkedHashMap(int initialCapacity) {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        int length = Math.max(LOCK_STRIPES, Hashing.tableSizeFor(initialCapacity));
+        resize = new AtomicReference<>(new Resize<>(null, new AtomicReferenceArray<>(length)));
+    }
+
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        int hash = Hashing.mix(key.hashCode());
+        AtomicReferenceArray<Entry<K, V>> table = currentTable();
+        while (true) {
+            int index = hash & (table.length() - 1);
+            Forward<K, V> forward = null;
+            V output = null;
+            synchronized (lockFor(index)) {
+                Entry<K, V> head = table.get(index);
+                if (head instanceof Forward) {
+                    forward = (Forward<K, V>) head;
+                } else {
+                    for (Entry<K, V> current = head; current != null; current = current.next) {
+                        if (current.hash == hash && current.key.equals(key)) {
+                            output = current.value;
+                            current.value = value;
+                            break;
+                        }
+                    }
+                    if (output == null) {
+                        table.set(index, new Entry<>(hash, key, value, head));
+                    }
+                }
+            }
+            if (forward != null) {
+                helpTransfer(forward.resize);
+                table = forward.resize.newTable;
+            } else {
+                if (output == null) {
+                    size.increment();
+                    maybeResize();
+                }
+                return output;
+            }
+        }
+    }
+
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be removed must not be null.");
+        }
+        int hash = Hashing.mix(key.hashCode());
+        AtomicReferenceArray<Entry<K, V>> table = currentTable();
+        while (true) {
+            int index = hash & (table.length() - 1);
+            Forward<K, V> forward = null;
+            V output = null;
+            synchronized (lockFor(index)) {
+                Entry<K, V> head = table.get(index);
+                if (head instanceof Forward) {
+                    forward = (Forward<K, V>) head;
+                } else {
+                    Entry<K, V> previous = null;
+                    for (Entry<K, V> current = head; current != null; current = current.next) {
+                        if (current.hash == hash && current.key.equals(key)) {
+                            output = current.value;
+                            if (previous == null) {
+                                table.set(index, current.next);
+                            } else {
+                                previous.next = current.next;
+                            }
+                            break;
+                        }
+                        previous = current;
+                    }
+                }
+            }
+            if (forward != null) {
+                helpTransfer(forward.resize);
+                table = forward.resize.newTable;
+            } else if (output == null) {
+                throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+            } else {
+                size.decrement();
+                return output;
+            }
+        }
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        V output = getHelper(key);
+        if (output == null) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        return output;
+    }
+
+    // Lock-free, chain heads and links are volatile so a reader always walks a consistent chain
+    private V getHelper(K key) {
+        int hash = Hashing.mix(key.hashCode());
+        AtomicReferenceArray<Entry<K, V>> table = currentTable();
+        while (true) {
+            Entry<K, V> current = table.get(hash & (table.length() - 1));
+            if (current instanceof Forward) {
+                table = ((Forward<K, V>) current).resize.newTable;
+                continue;
+            }
+            for (; current != null; current = current.next) {
+                if (current.hash == hash && current.key.equals(key)) {
+                    return current.value;
+                }
+            }
+            return null;
+        }
+    }
+
+    public boolean contains(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        return getHelper(key) != null;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        return (int) size.sum();
+    }
+
+    // Buckets i and i + n of a doubled table share the low bits of i, so they stay under the same stripe
+    private Object lockFor(int index) {
+        return locks[index & (LOCK_STRIPES - 1)];
+    }
+
+    private AtomicReferenceArray<Entry<K, V>> currentTable() {
+        Resize<K, V> current = resize.get();
+        return current.isDone() ? current.newTable : current.oldTable;
+    }
+
+    private void maybeResize() {
+        Resize<K, V> current = resize.get();
+        if (!current.isDone()) {
+            helpTransfer(current);
+        } else if (size.sum() > MAX_LOAD_FACTOR * current.newTable.length()) {
+            Resize<K, V> next = new Resize<>(current.newTable,
+                    new AtomicReferenceArray<>(2 * current.newTable.length()));
+            if (resize.compareAndSet(current, next)) {
+                helpTransfer(next);
+            }
+        }
+    }
+
+    // Every thread that runs into a resize claims strides of old buckets until none are left. Claims are made by
+    // compare-and-set, so threads that arrive after the last stride is taken leave the counter alone
+    private void helpTransfer(Resize<K, V> resize) {
+        int length = resize.oldTable.length();
+        int start = resize.claimed.get();
+        while (start < length) {
+            if (resize.claimed.compareAndSet(start, start + TRANSFER_STRIDE)) {
+                int end = Math.min(length, start + TRANSFER_STRIDE);
+                for (int i = start; i < end; i++) {
+                    transfer(resize, i);
+                }
+                resize.finished.addAndGet(end - start);
+            }
+            start = resize.claimed.get();
+        }
+    }
+
+    private void transfer(Resize<K, V> resize, int index) {
+        int length = resize.oldTable.length();
+        synchronized (lockFor(index)) {
+            Entry<K, V> low = null;
+            Entry<K, V> high = null;
+            for (Entry<K, V> current = resize.oldTable.get(index); current != null; current = current.next) {
+                if ((current.hash & length) == 0) {
+                    low = new Entry<>(current.hash, current.key, current.value, low);
+                } else {
+                    high = new Entry<>(current.hash, current.key, current.value, high);
+                }
+            }
+            resize.newTable.set(index, low);
+            resize.newTable.set(index + length, high);
+            resize.oldTable.set(index, resize.forward);
+        }
+    }
+
+    AtomicReferenceArray<Entry<K, V>> getTable() {
+        return currentTable();
+    }
+
+    static class Entry<K, V> {
+
+        private final int hash;
+        private final K key;
+        private volatile V value;
+        private volatile Entry<K, V> next;
+
+        Entry(int hash, K key, V value, Entry<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public Entry<K, V> getNext() {
+            return next;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s=%s", key.toString(), value.toString());
+        }
+    }
+
+    private static final class Forward<K, V> extends Entry<K, V> {
+
+        private final Resize<K, V> resize;
+
+        private Forward(Resize<K, V> resize) {
+            super(-1, null, null, null);
+            this.resize = resize;
+        }
+    }
+
+    private static final class Resize<K, V> {
+
+        private final AtomicReferenceArray<Entry<K, V>> oldTable;
+        private final AtomicReferenceArray<Entry<K, V>> newTable;
+        private final Forward<K, V> forward;
+        private final AtomicInteger claimed = new AtomicInteger();
+        private final AtomicInteger finished = new AtomicInteger();
+
+        private Resize(AtomicReferenceArray<Entry<K, V>> oldTable, AtomicReferenceArray<Entry<K, V>> newTable) {
+            this.oldTable = oldTable;
+            this.newTable = newTable;
+            this.forward = new Forward<>(this);
+        }
+
+        private boolean isDone() {
+            return oldTable == null || finished.get() == oldTable.length();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ConcurrentLinkedHashMapTest {
+
+    private static final int TIMEOUT = 2000;
+    private static final int THREADS = 4;
+    private ConcurrentLinkedHashMap<Integer, String> map;
+
+    @Before
+    public void setUp() {
+        map = new ConcurrentLinkedHashMap<>(5);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, map.size());
+        assertTrue(map.isEmpty());
+        assertEquals(16, map.getTable().length());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_PutNullKeyValue() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(null, "A");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(0, null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_PutAddReplace() {
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(16, "B"));
+        assertNull(map.put(32, "C"));
+        assertEquals(3, map.size());
+
+        assertEquals("B", map.put(16, "BB"));
+        assertEquals(3, map.size());
+        assertEquals("A", map.get(0));
+        assertEquals("BB", map.get(16));
+        assertEquals("C", map.get(32));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_PutResize() {
+        for (int i = 0; i < 1000; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        assertEquals(1000, map.size());
+        assertEquals(2048, map.getTable().length());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("V" + i, map.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_Remove() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.remove(null);
+        });
+        for (int i = 0; i < 100; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals("V" + i, map.remove(i));
+        }
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, map.contains(i));
+        }
+        assertThrows(NoSuchElementException.class, () -> {
+            map.remove(2);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_GetNotFound() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.get(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.contains(null);
+        });
+        assertNull(map.put(1, "B"));
+        assertThrows(NoSuchElementException.class, () -> {
+            map.get(2);
+        });
+        assertFalse(map.contains(2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_ConcurrentPut() throws InterruptedException {
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = offset; i < 40000; i += THREADS) {
+                    map.put(i, "V" + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread: threads) {
+            thread.join();
+        }
+        assertEquals(40000, map.size());
+        for (int i = 0; i < 40000; i++) {
+            assertEquals("V" + i, map.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_ConcurrentMixed() throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            assertNull(map.put(-i - 1, "Fixed"));
+        }
+        boolean[] missed = new boolean[1];
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = offset; i < 20000; i += THREADS) {
+                    map.put(i, "V" + i);
+                    if (!map.contains(-(i % 1000) - 1)) {
+                        missed[0] = true;
+                    }
+                    if (i % 2 == 0) {
+                        map.remove(i);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread: threads) {
+            thread.join();
+        }
+        assertFalse(missed[0]);
+        assertEquals(11000, map.size());
+        for (int i = 0; i < 20000; i++) {
+            assertEquals(i % 2 == 1, map.contains(i));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.prakharmittal.hashing;
+
+import java.nio.ByteBuffer;
+
+// Estimates never undercount, and overcount by at most epsilon * total with probability 1 - delta
+public class CountMinSketch<K> {
+
+    private final int depth;
+    private final int width;
+    private final long[] counters;
+    private long total;
+
+    public CountMinSketch(double epsilon, double delta) {
+        this(depthFor(delta), widthFor(epsilon));
+    }
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException("The depth must be positive.");
+        } else if (width <= 0) {
+            throw new IllegalArgumentException("The width must be positive.");
+        }
+        if ((long) depth * Hashing.tableSizeFor(width) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("The depth times the width is too large for one array.");
+        }
+        this.depth = depth;
+        this.width = Hashing.tableSizeFor(width);
+        counters = new long[depth * this.width];
+    }
+
+    public void add(K key) {
+        add(key, 1);
+    }
+
+    // Conservative update only raises the counters that are below the new minimum estimate
+    public void add(K key, long count) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (count < 0) {
+            throw new IllegalArgumentException("The count to be added must not be negative.");
+        }
+        long hash = Hashing.fmix64(key.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            estimate = Math.min(estimate, counters[indexOf(hash, i)]);
+        }
+        long updated = estimate + count;
+        for (int i = 0; i < depth; i++) {
+            int index = indexOf(hash, i);
+            counters[index] = Math.max(counters[index], updated);
+        }
+        total += count;
+    }
+
+    public long estimateCount(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        long hash = Hashing.fmix64(key.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            estimate = Math.min(estimate, counters[indexOf(hash, i)]);
+        }
+        return estimate;
+    }
+
+    // Summing rows keeps every estimate an upper bound, though no longer as tight as one sketch of both streams
+    public void merge(CountMinSketch<K> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The sketch to be merged must not be null.");
+        } else if (other.depth != depth || other.width != width) {
+            throw new IllegalArgumentException("Only sketches with the same depth and width can be merged.");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        total += other.total;
+    }
+
+    public byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(16 + 8 * counters.length);
+        buffer.putInt(depth).putInt(width).putLong(total);
+        for (long counter: counters) {
+            buffer.putLong(counter);
+        }
+        return buffer.array();
+    }
+
+    public static <K> CountMinSketch<K> fromByteArray(byte[] bytes) {
+        if (bytes == null || bytes.length < 16) {
+            throw new IllegalArgumentException("The bytes do not hold a serialized CountMinSketch.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int depth = buffer.getInt();
+        int width = buffer.getInt();
+        // The header is untrusted, so it must agree with the length before it decides how much to allocate
+        if (depth <= 0 || width <= 0 || (bytes.length - 16) % 8 != 0
+                || (bytes.length - 16) / 8 != (long) depth * Hashing.tableSizeFor(width)) {
+            throw new IllegalArgumentException("The bytes do not hold a serialized CountMinSketch.");
+        }
+        CountMinSketch<K> output = new CountMinSketch<>(depth, width);
+        output.total = buffer.getLong();
+        for (int i = 0; i < output.counters.length; i++) {
+            output.counters[i] = buffer.getLong();
+        }
+        return output;
+    }
+
+    private int indexOf(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return row * width + ((h1 + row * h2) & (width - 1));
+    }
+
+    private static int depthFor(double delta) {
+        if (!(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("The failure probability must be between 0 and 1.");
+        }
+        return (int) Math.ceil(Math.log(1 / delta));
+    }
+
+    private static int widthFor(double epsilon) {
+        if (!(epsilon > 0 && epsilon < 1)) {
+            throw new IllegalArgumentException("The error bound must be between 0 and 1.");
+        }
+        return (int) Math.ceil(Math.E / epsilon);
+    }
+
+    public void clear() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = 0;
+        }
+        total = 0;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+}
@@ -0,0 +1,132 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CountMinSketchTest {
+
+    private static final int TIMEOUT = 2000;
+    private CountMinSketch<Integer> sketch;
+
+    @Before
+    public void setUp() {
+        sketch = new CountMinSketch<>(0.001, 0.01);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(5, sketch.getDepth());
+        assertEquals(4096, sketch.getWidth());
+        assertEquals(0, sketch.getTotal());
+        assertEquals(0, sketch.estimateCount(1));
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CountMinSketch<Integer>(0, 0.01);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CountMinSketch<Integer>(0.01, 1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CountMinSketch<Integer>(0, 16);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_Add() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            sketch.add(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            sketch.add(1, -1);
+        });
+        sketch.add(1);
+        sketch.add(1);
+        sketch.add(2, 10);
+        assertEquals(2, sketch.estimateCount(1));
+        assertEquals(10, sketch.estimateCount(2));
+        assertEquals(12, sketch.getTotal());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_NeverUndercounts() {
+        CountMinSketch<Integer> narrow = new CountMinSketch<>(3, 64);
+        for (int i = 0; i < 1000; i++) {
+            narrow.add(i, i % 7 + 1);
+        }
+        long overcount = 0;
+        for (int i = 0; i < 1000; i++) {
+            long estimate = narrow.estimateCount(i);
+            assertTrue(estimate >= i % 7 + 1);
+            overcount += estimate - (i % 7 + 1);
+        }
+        assertTrue(overcount / 1000.0 < narrow.getTotal() * 2.0 / narrow.getWidth());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_ErrorBound() {
+        for (int i = 0; i < 100000; i++) {
+            sketch.add(i % 5000);
+        }
+        int outside = 0;
+        for (int i = 0; i < 5000; i++) {
+            if (sketch.estimateCount(i) > 20 + 0.001 * 100000) {
+                outside++;
+            }
+        }
+        assertTrue(outside < 50);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_Merge() {
+        CountMinSketch<Integer> other = new CountMinSketch<>(0.001, 0.01);
+        sketch.add(1, 5);
+        other.add(1, 3);
+        other.add(2, 4);
+        sketch.merge(other);
+        assertEquals(8, sketch.estimateCount(1));
+        assertEquals(4, sketch.estimateCount(2));
+        assertEquals(12, sketch.getTotal());
+        assertThrows(IllegalArgumentException.class, () -> {
+            sketch.merge(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            sketch.merge(new CountMinSketch<>(2, 16));
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_Serialization() {
+        for (int i = 0; i < 1000; i++) {
+            sketch.add(i, i);
+        }
+        byte[] bytes = sketch.toByteArray();
+        assertEquals(16 + 8 * 5 * 4096, bytes.length);
+        CountMinSketch<Integer> copy = CountMinSketch.fromByteArray(bytes);
+        assertEquals(sketch.getTotal(), copy.getTotal());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(sketch.estimateCount(i), copy.estimateCount(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            CountMinSketch.fromByteArray(new byte[] {0, 0, 0, 1, 0, 0, 0, 4});
+        });
+        // A header claiming 2^31 rows of 2^30 counters must be rejected before anything is allocated
+        assertThrows(IllegalArgumentException.class, () -> {
+            CountMinSketch.fromByteArray(new byte[] {127, -1, -1, -1, 64, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_Clear() {
+        sketch.add(1, 10);
+        sketch.clear();
+        assertEquals(0, sketch.estimateCount(1));
+        assertEquals(0, sketch.getTotal());
+    }
+}
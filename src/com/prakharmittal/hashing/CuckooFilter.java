@@ -0,0 +1,189 @@
+package com.prakharmittal.hashing;
+
+// Each long is a bucket of four 16-bit fingerprints, a zero fingerprint marks an empty slot
+public class CuckooFilter<K> {
+
+    private final long[] buckets;
+    private final int mask;
+    private int size;
+    private int victim;
+    private int victimIndex;
+    private int random = 0x9E3779B9;
+
+    public static final double MAX_LOAD_FACTOR = 0.95;
+    public static final int MAX_KICKS = 500;
+
+    static final int SLOTS = 4;
+    static final int FINGERPRINT_BITS = 16;
+
+    private static final long FINGERPRINT_MASK = (1L << FINGERPRINT_BITS) - 1;
+
+    public CuckooFilter(int expectedInsertions) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("The expected number of insertions must be positive.");
+        }
+        buckets = new long[Hashing.tableSizeFor((int) Math.ceil(expectedInsertions / (SLOTS * MAX_LOAD_FACTOR)))];
+        mask = buckets.length - 1;
+    }
+
+    // Returns false only once the filter is full, duplicates are stored again so they can be deleted again
+    public boolean add(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (victim != 0) {
+            return false;
+        }
+        long hash = Hashing.fmix64(key.hashCode());
+        int fingerprint = fingerprintOf(hash);
+        int index = (int) hash & mask;
+        int alternate = alternateIndex(index, fingerprint);
+        if (insert(index, fingerprint) || insert(alternate, fingerprint)) {
+            size++;
+            return true;
+        }
+        index = nextRandom() % 2 == 0 ? index : alternate;
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            int shift = (nextRandom() % SLOTS) * FINGERPRINT_BITS;
+            int evicted = (int) ((buckets[index] >>> shift) & FINGERPRINT_MASK);
+            buckets[index] = (buckets[index] & ~(FINGERPRINT_MASK << shift)) | ((long) fingerprint << shift);
+            fingerprint = evicted;
+            index = alternateIndex(index, fingerprint);
+            if (insert(index, fingerprint)) {
+                size++;
+                return true;
+            }
+        }
+        // The last fingerprint kicked out is parked rather than lost, and blocks further adds
+        victim = fingerprint;
+        victimIndex = index;
+        size++;
+        return true;
+    }
+
+    public boolean mightContain(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        long hash = Hashing.fmix64(key.hashCode());
+        int fingerprint = fingerprintOf(hash);
+        int index = (int) hash & mask;
+        int alternate = alternateIndex(index, fingerprint);
+        if (victim == fingerprint && (victimIndex == index || victimIndex == alternate)) {
+            return true;
+        }
+        return slotOf(index, fingerprint) >= 0 || slotOf(alternate, fingerprint) >= 0;
+    }
+
+    // Only keys that were added may be deleted, otherwise a colliding key's fingerprint can be removed
+    public boolean delete(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be deleted must not be null.");
+        }
+        long hash = Hashing.fmix64(key.hashCode());
+        int fingerprint = fingerprintOf(hash);
+        int index = (int) hash & mask;
+        int alternate = alternateIndex(index, fingerprint);
+        if (victim == fingerprint && (victimIndex == index || victimIndex == alternate)) {
+            victim = 0;
+            size--;
+            return true;
+        }
+        if (remove(index, fingerprint) || remove(alternate, fingerprint)) {
+            size--;
+            if (victim != 0) {
+                int parked = victim;
+                victim = 0;
+                reinsert(parked, victimIndex);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // A delete frees a slot, which may be the one the parked fingerprint needs
+    private void reinsert(int fingerprint, int index) {
+        if (!insert(index, fingerprint) && !insert(alternateIndex(index, fingerprint), fingerprint)) {
+            victim = fingerprint;
+            victimIndex = index;
+        }
+    }
+
+    private boolean insert(int index, int fingerprint) {
+        long bucket = buckets[index];
+        for (int shift = 0; shift < 64; shift += FINGERPRINT_BITS) {
+            if (((bucket >>> shift) & FINGERPRINT_MASK) == 0) {
+                buckets[index] = bucket | ((long) fingerprint << shift);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean remove(int index, int fingerprint) {
+        int slot = slotOf(index, fingerprint);
+        if (slot < 0) {
+            return false;
+        }
+        buckets[index] &= ~(FINGERPRINT_MASK << (slot * FINGERPRINT_BITS));
+        return true;
+    }
+
+    private int slotOf(int index, int fingerprint) {
+        long bucket = buckets[index];
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (((bucket >>> (slot * FINGERPRINT_BITS)) & FINGERPRINT_MASK) == fingerprint) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private static int fingerprintOf(long hash) {
+        int fingerprint = (int) ((hash >>> 48) & FINGERPRINT_MASK);
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    // Partial-key cuckoo hashing, the XOR is its own inverse so either bucket leads to the other
+    private int alternateIndex(int index, int fingerprint) {
+        return (index ^ Hashing.mix(fingerprint * 0x5BD1E995)) & mask;
+    }
+
+    private int nextRandom() {
+        random ^= random << 13;
+        random ^= random >>> 17;
+        random ^= random << 5;
+        return random & Integer.MAX_VALUE;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = 0;
+        }
+        victim = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double loadFactor() {
+        return (double) size / (SLOTS * buckets.length);
+    }
+
+    public int getBucketCount() {
+        return buckets.length;
+    }
+
+    long[] getBuckets() {
+        return buckets;
+    }
+
+    boolean isFull() {
+        return victim != 0;
+    }
+}
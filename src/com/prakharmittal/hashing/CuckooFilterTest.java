@@ -0,0 +1,139 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CuckooFilterTest {
+
+    private static final int TIMEOUT = 2000;
+    private CuckooFilter<Integer> filter;
+
+    @Before
+    public void setUp() {
+        filter = new CuckooFilter<>(1000);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, filter.size());
+        assertTrue(filter.isEmpty());
+        assertEquals(512, filter.getBucketCount());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CuckooFilter<Integer>(0);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_NullKey() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            filter.add(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            filter.mightContain(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            filter.delete(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_AddDelete() {
+        assertFalse(filter.mightContain(5));
+        assertTrue(filter.add(5));
+        assertTrue(filter.mightContain(5));
+        assertEquals(1, filter.size());
+
+        assertTrue(filter.delete(5));
+        assertFalse(filter.mightContain(5));
+        assertFalse(filter.delete(5));
+        assertTrue(filter.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_Duplicates() {
+        assertTrue(filter.add(5));
+        assertTrue(filter.add(5));
+        assertEquals(2, filter.size());
+        assertTrue(filter.delete(5));
+        assertTrue(filter.mightContain(5));
+        assertTrue(filter.delete(5));
+        assertFalse(filter.mightContain(5));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_HighLoadNoFalseNegatives() {
+        CuckooFilter<Integer> large = new CuckooFilter<>(10000);
+        int capacity = CuckooFilter.SLOTS * large.getBucketCount();
+        int added = (int) (0.9 * capacity);
+        for (int i = 0; i < added; i++) {
+            assertTrue(large.add(i));
+        }
+        assertFalse(large.isFull());
+        assertEquals(0.9, large.loadFactor(), 0.01);
+        for (int i = 0; i < added; i++) {
+            assertTrue(large.mightContain(i));
+        }
+        int falsePositives = 0;
+        for (int i = added; i < added + 100000; i++) {
+            if (large.mightContain(i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 100);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_DeleteHalf() {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.add(i));
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertTrue(filter.delete(i));
+        }
+        assertEquals(500, filter.size());
+        for (int i = 1; i < 1000; i += 2) {
+            assertTrue(filter.mightContain(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_Full() {
+        CuckooFilter<Integer> small = new CuckooFilter<>(8);
+        int i = 0;
+        while (small.add(i)) {
+            i++;
+        }
+        assertTrue(small.isFull());
+        assertEquals(i, small.size());
+        for (int j = 0; j < i; j++) {
+            assertTrue(small.mightContain(j));
+        }
+        for (int j = 0; j < i; j++) {
+            assertTrue(small.delete(j));
+        }
+        assertTrue(small.isEmpty());
+        assertFalse(small.isFull());
+        assertTrue(small.add(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_Clear() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(filter.add(i));
+        }
+        filter.clear();
+        assertTrue(filter.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            assertFalse(filter.mightContain(i));
+        }
+    }
+}
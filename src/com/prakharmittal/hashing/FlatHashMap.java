@@ -0,0 +1,276 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class FlatHashMap<K, V> implements Iterable<K> {
+
+    private Object[] keys;
+    private Object[] values;
+    private long[] occupied;
+    private int size;
+
+    public static final int INITIAL_CAPACITY = 16;
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    public FlatHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public FlatHashMap(int initialCapacity) {
+        allocate(Hashing.tableSizeFor(initialCapacity));
+    }
+
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        if ((size + 1.0) / keys.length > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * keys.length);
+        }
+        int mask = keys.length - 1;
+        int index = Hashing.mix(key.hashCode()) & mask;
+        while (isOccupied(occupied, index)) {
+            if (keys[index].equals(key)) {
+                V output = (V) values[index];
+                values[index] = value;
+                return output;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        occupied[index >>> 6] |= 1L << index;
+        size++;
+        return null;
+    }
+
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be removed must not be null.");
+        }
+        int index = find(key);
+        if (index < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        V output = (V) values[index];
+        int mask = keys.length - 1;
+        int hole = index;
+        index = (index + 1) & mask;
+        while (isOccupied(occupied, index)) {
+            int home = Hashing.mix(keys[index].hashCode()) & mask;
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                hole = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[hole] = null;
+        values[hole] = null;
+        occupied[hole >>> 6] &= ~(1L << hole);
+        size--;
+        return output;
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        int index = find(key);
+        if (index < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        return (V) values[index];
+    }
+
+    public boolean contains(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        return find(key) >= 0;
+    }
+
+    private int find(Object key) {
+        int mask = keys.length - 1;
+        int index = Hashing.mix(key.hashCode()) & mask;
+        while (isOccupied(occupied, index)) {
+            if (keys[index].equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    public HashSet<HashMap.Entry<K, V>> entries() {
+        HashSet<HashMap.Entry<K, V>> output = new HashSet<>(size);
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            output.add(new HashMap.Entry<>((K) keys[i], (V) values[i]));
+        }
+        return output;
+    }
+
+    public HashSet<K> keys() {
+        HashSet<K> output = new HashSet<>(size);
+        for (K key: this) {
+            output.add(key);
+        }
+        return output;
+    }
+
+    public ArrayList<V> values() {
+        ArrayList<V> output = new ArrayList<>(size);
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            output.addToBack((V) values[i]);
+        }
+        return output;
+    }
+
+    public void resizeBackingTable(int length) {
+        if (length < size || size > Hashing.tableSizeFor(length) * MAX_LOAD_FACTOR) {
+            throw new IllegalArgumentException("Length should be at least " + (int) Math.ceil(size / MAX_LOAD_FACTOR) + ".");
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        long[] oldOccupied = occupied;
+        allocate(Hashing.tableSizeFor(length));
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (isOccupied(oldOccupied, i)) {
+                int index = Hashing.mix(oldKeys[i].hashCode()) & mask;
+                while (isOccupied(occupied, index)) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                occupied[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    private void allocate(int length) {
+        keys = new Object[length];
+        values = new Object[length];
+        occupied = new long[(length + 63) >>> 6];
+    }
+
+    private static boolean isOccupied(long[] bitmap, int index) {
+        return (bitmap[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private int nextOccupied(int from) {
+        if (from >= keys.length) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = occupied[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == occupied.length) {
+                return -1;
+            }
+            bits = occupied[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        allocate(keys.length);
+        size = 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof FlatHashMap<?, ?>) {
+            FlatHashMap<?, ?> other = (FlatHashMap<?, ?>) o;
+            if (size == other.size) {
+                for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+                    int index = other.find(keys[i]);
+                    if (index < 0 || !other.values[index].equals(values[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (K key: this) {
+            hashCode ^= key.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String prefix = "";
+        builder.append("[");
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            builder.append(prefix);
+            prefix = ", ";
+            builder.append(String.format("%s=%s", keys[i].toString(), values[i].toString()));
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    Object[] getKeyTable() {
+        return keys;
+    }
+
+    Object[] getValueTable() {
+        return values;
+    }
+
+    long[] getOccupied() {
+        return occupied;
+    }
+
+    @Override
+    public Iterator<K> iterator() {
+        return new FlatHashMapIterator();
+    }
+
+    private class FlatHashMapIterator implements Iterator<K> {
+
+        private int i;
+
+        private FlatHashMapIterator() {
+            i = nextOccupied(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return i >= 0;
+        }
+
+        @Override
+        public K next() {
+            if (hasNext()) {
+                K output = (K) keys[i];
+                i = nextOccupied(i + 1);
+                return output;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.prakharmittal.hashing;
+
+// A count-min sketch of 4-bit counters, sixteen to a long, that halves itself every sampleSize increments
+final class FrequencySketch {
+
+    static final int DEPTH = 4;
+    static final int MAXIMUM_COUNT = 15;
+
+    private static final long[] SEEDS = {
+            0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int capacity) {
+        table = new long[Hashing.tableSizeFor(capacity)];
+        sampleSize = 10 * Math.max(1, capacity);
+    }
+
+    int frequency(Object key) {
+        int hash = Hashing.mix(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = MAXIMUM_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            int offset = (start + i) << 2;
+            frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> offset) & 0xF));
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = Hashing.mix(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = indexOf(hash, i);
+            int offset = (start + i) << 2;
+            if (((table[index] >>> offset) & 0xF) != MAXIMUM_COUNT) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    // Halving every counter ages out old popularity, so the sketch tracks the recent working set
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & (table.length - 1);
+    }
+
+    int getAdditions() {
+        return additions;
+    }
+
+    int getSampleSize() {
+        return sampleSize;
+    }
+}
@@ -0,0 +1,77 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class FrequencySketchTest {
+
+    private static final int TIMEOUT = 200;
+    private FrequencySketch sketch;
+
+    @Before
+    public void setUp() {
+        sketch = new FrequencySketch(64);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, sketch.frequency(0));
+        assertEquals(640, sketch.getSampleSize());
+        assertEquals(0, sketch.getAdditions());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_Increment() {
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("A");
+        }
+        sketch.increment("B");
+        assertEquals(5, sketch.frequency("A"));
+        assertEquals(1, sketch.frequency("B"));
+        assertEquals(6, sketch.getAdditions());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_Saturate() {
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(7);
+        }
+        assertEquals(FrequencySketch.MAXIMUM_COUNT, sketch.frequency(7));
+        assertEquals(FrequencySketch.MAXIMUM_COUNT, sketch.getAdditions());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_NeverUnderestimates() {
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j <= i % 5; j++) {
+                sketch.increment(i);
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            assertTrue(sketch.frequency(i) >= i % 5 + 1);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_Aging() {
+        for (int i = 0; i < 12; i++) {
+            sketch.increment("hot");
+        }
+        assertTrue(sketch.frequency("hot") >= 12);
+        int previous;
+        int i = 0;
+        do {
+            previous = sketch.getAdditions();
+            sketch.increment(i++);
+        } while (sketch.getAdditions() > previous);
+        assertEquals(sketch.getSampleSize() / 2, sketch.getAdditions());
+        assertTrue(sketch.frequency("hot") < 12);
+    }
+}
@@ -4,21 +4,58 @@ import com.prakharmittal.list.ArrayList;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class HashMap<K, V> implements Iterable<HashMap.Entry<K, V>> {
+public class HashMap<K, V> implements MapViews.Source<K, V, HashMap.Entry<K, V>> {
 
     private Entry<K, V>[] table;
     private int size;
+    private final boolean powerOfTwo;
+    private final boolean incremental;
+    private final boolean seeded;
+    private final long seed0;
+    private final long seed1;
+    private Entry<K, V>[] oldTable;
+    private int migrated;
 
     public static final int INITIAL_CAPACITY = 13;
     public static final double MAX_LOAD_FACTOR = 0.67;
+    public static final int MIGRATION_STEP = 8;
+
+    private static final Entry MOVED = new Entry<>(null, null);
+
+    static {
+        MOVED.setRemoved(true);
+    }
 
     public HashMap() {
         this(INITIAL_CAPACITY);
     }
 
     public HashMap(int initialCapacity) {
-        table = new Entry[Math.max(3, initialCapacity)];
+        this(initialCapacity, false);
+    }
+
+    public HashMap(int initialCapacity, boolean powerOfTwo) {
+        this(initialCapacity, powerOfTwo, false);
+    }
+
+    public HashMap(int initialCapacity, boolean powerOfTwo, boolean incremental) {
+        this(initialCapacity, powerOfTwo, incremental, false);
+    }
+
+    public HashMap(int initialCapacity, boolean powerOfTwo, boolean incremental, boolean seeded) {
+        this.powerOfTwo = powerOfTwo;
+        this.incremental = incremental;
+        this.seeded = seeded;
+        seed0 = seeded ? Hashing.randomSeed() : 0;
+        seed1 = seeded ? Hashing.randomSeed() : 0;
+        table = new Entry[powerOfTwo ? Hashing.tableSizeFor(initialCapacity) : Math.max(3, initialCapacity)];
     }
 
     public V put(K key, V value) {
@@ -27,44 +64,172 @@ public class HashMap<K, V> implements Iterable<HashMap.Entry<K, V>> {
         } else if (value == null) {
             throw new IllegalArgumentException("The value to be added must not be null.");
         }
-        if ((size + 1.0) / table.length > MAX_LOAD_FACTOR) {
-            resizeBackingTable(2 * table.length + 1);
+        prepareInsert();
+        Entry<K, V> entry = findOld(key);
+        if (entry != null) {
+            V output = entry.getValue();
+            entry.setValue(value);
+            return output;
         }
-        int index = Math.abs(key.hashCode() % table.length);
-        int p = 0;
-        int firstRemoved = -1;
-        while (table[index] != null && p <= table.length) {
-            if (table[index].getRemoved() && firstRemoved < 0) {
-                firstRemoved = index;
-            } else if (!table[index].getRemoved() && table[index].getKey().equals(key)) {
-                V output = table[index].getValue();
+        int index = probe(key);
+        if (index >= 0) {
+            V output = table[index].getValue();
+            table[index].setValue(value);
+            return output;
+        }
+        insertAt(-index - 1, key, value);
+        return null;
+    }
+
+    public V putIfAbsent(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        prepareInsert();
+        Entry<K, V> entry = findOld(key);
+        if (entry != null) {
+            return entry.getValue();
+        }
+        int index = probe(key);
+        if (index >= 0) {
+            return table[index].getValue();
+        }
+        insertAt(-index - 1, key, value);
+        return null;
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mapping) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be computed must not be null.");
+        } else if (mapping == null) {
+            throw new IllegalArgumentException("The mapping function must not be null.");
+        }
+        prepareInsert();
+        Entry<K, V> entry = findOld(key);
+        if (entry != null) {
+            return entry.getValue();
+        }
+        int index = probe(key);
+        if (index >= 0) {
+            return table[index].getValue();
+        }
+        V value = mapping.apply(key);
+        if (value != null) {
+            insertAt(-index - 1, key, value);
+        }
+        return value;
+    }
+
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remapping) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be merged must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be merged must not be null.");
+        } else if (remapping == null) {
+            throw new IllegalArgumentException("The remapping function must not be null.");
+        }
+        return compute(key, (k, oldValue) -> oldValue == null ? value : remapping.apply(oldValue, value));
+    }
+
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remapping) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be computed must not be null.");
+        } else if (remapping == null) {
+            throw new IllegalArgumentException("The remapping function must not be null.");
+        }
+        prepareInsert();
+        Entry<K, V> entry = findOld(key);
+        if (entry != null) {
+            V value = remapping.apply(key, entry.getValue());
+            if (value == null) {
+                entry.setRemoved(true);
+                size--;
+            } else {
+                entry.setValue(value);
+            }
+            return value;
+        }
+        int index = probe(key);
+        V value = remapping.apply(key, index >= 0 ? table[index].getValue() : null);
+        if (index >= 0) {
+            if (value == null) {
+                removeAt(index);
+            } else {
                 table[index].setValue(value);
-                return output;
             }
-            p++;
-            index = (index + 1) % table.length;
+        } else if (value != null) {
+            insertAt(-index - 1, key, value);
         }
-        table[firstRemoved < 0 ? index : firstRemoved] = new Entry<>(key, value);
-        size++;
-        return null;
+        return value;
     }
 
     public V remove(K key) {
         if (key == null) {
             throw new IllegalArgumentException("The key to be removed must not be null.");
         }
-        int index = Math.abs(key.hashCode() % table.length);
+        migrate();
+        int index = probe(key);
+        if (index >= 0) {
+            V output = table[index].getValue();
+            removeAt(index);
+            return output;
+        }
+        Entry<K, V> entry = findOld(key);
+        if (entry != null) {
+            entry.setRemoved(true);
+            size--;
+            return entry.getValue();
+        }
+        throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+    }
+
+    private void prepareInsert() {
+        if ((size + 1.0) / table.length > MAX_LOAD_FACTOR) {
+            int length = powerOfTwo ? 2 * table.length : 2 * table.length + 1;
+            if (incremental) {
+                startResize(length);
+            } else {
+                resizeBackingTable(length);
+            }
+        }
+        migrate();
+    }
+
+    // Returns the slot holding the key, or -(slot a new entry for it belongs in) - 1
+    private int probe(K key) {
+        int index = indexFor(key, table.length);
         int p = 0;
+        int firstRemoved = -1;
         while (table[index] != null && p <= table.length) {
-            if (!table[index].getRemoved() && table[index].getKey().equals(key)) {
-                table[index].setRemoved(true);
-                size--;
-                return table[index].getValue();
+            if (table[index].getRemoved() && firstRemoved < 0) {
+                firstRemoved = index;
+            } else if (!table[index].getRemoved() && table[index].getKey().equals(key)) {
+                return index;
             }
             p++;
-            index = (index + 1) % table.length;
+            index = nextIndex(index, table.length);
         }
-        throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        return -(firstRemoved < 0 ? index : firstRemoved) - 1;
+    }
+
+    private void insertAt(int index, K key, V value) {
+        table[index] = new Entry<>(key, value);
+        size++;
+    }
+
+    private void removeAt(int index) {
+        if (powerOfTwo) {
+            shiftBackward(index);
+        } else {
+            table[index].setRemoved(true);
+        }
+        size--;
+    }
+
+    private Entry<K, V> findOld(K key) {
+        return oldTable == null ? null : findEntry(oldTable, key);
     }
 
     public V get(K key) {
@@ -79,18 +244,35 @@ public class HashMap<K, V> implements Iterable<HashMap.Entry<K, V>> {
     }
 
     private V getHelper(K key) {
-        int index = Math.abs(key.hashCode() % table.length);
+        migrate();
+        Entry<K, V> entry = findEntry(table, key);
+        if (entry == null) {
+            entry = findOld(key);
+        }
+        return entry == null ? null : entry.getValue();
+    }
+
+    private Entry<K, V> findEntry(Entry<K, V>[] source, K key) {
+        int index = indexFor(key, source.length);
         int p = 0;
-        while (table[index] != null && p <= table.length) {
-            if (!table[index].getRemoved() && table[index].getKey().equals(key)) {
-                return table[index].getValue();
+        while (source[index] != null && p <= source.length) {
+            if (!source[index].getRemoved() && source[index].getKey().equals(key)) {
+                return source[index];
             }
             p++;
-            index = (index + 1) % table.length;
+            index = nextIndex(index, source.length);
         }
         return null;
     }
 
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        V output = getHelper(key);
+        return output == null ? defaultValue : output;
+    }
+
     public boolean contains(K key) {
         if (key == null) {
             throw new IllegalArgumentException("The key to be searched must not be null.");
@@ -122,27 +304,105 @@ public class HashMap<K, V> implements Iterable<HashMap.Entry<K, V>> {
         return output;
     }
 
+    public EntryView entryView() {
+        return new EntryView();
+    }
+
+    public KeyView keyView() {
+        return new KeyView();
+    }
+
+    public ValueView valueView() {
+        return new ValueView();
+    }
+
     public void resizeBackingTable(int length) {
         if (length < size) {
             throw new IllegalArgumentException("Length should be greater than " + size + ".");
         }
+        if (powerOfTwo) {
+            length = Hashing.tableSizeFor(length);
+        }
         Entry<K, V>[] newTable = new Entry[length];
         for (Entry<K, V> entry: this) {
-            int index = Math.abs(entry.getKey().hashCode() % length);
+            int index = indexFor(entry.getKey(), length);
             while (newTable[index] != null) {
-                index = (index + 1) % length;
+                index = nextIndex(index, length);
             }
             newTable[index] = new Entry<>(entry.getKey(), entry.getValue());
         }
         table = newTable;
     }
 
+    private void startResize(int length) {
+        finishResize();
+        oldTable = table;
+        table = new Entry[powerOfTwo ? Hashing.tableSizeFor(length) : length];
+        migrated = 0;
+    }
+
+    // Moves at most MIGRATION_STEP old slots per call, leaving MOVED behind so old probe runs stay intact
+    private void migrate() {
+        if (oldTable == null) {
+            return;
+        }
+        int end = Math.min(oldTable.length, migrated + MIGRATION_STEP);
+        for (; migrated < end; migrated++) {
+            Entry<K, V> entry = oldTable[migrated];
+            if (entry != null && !entry.getRemoved()) {
+                int index = indexFor(entry.getKey(), table.length);
+                while (table[index] != null && !table[index].getRemoved()) {
+                    index = nextIndex(index, table.length);
+                }
+                table[index] = entry;
+                oldTable[migrated] = MOVED;
+            }
+        }
+        if (migrated == oldTable.length) {
+            oldTable = null;
+        }
+    }
+
+    private void finishResize() {
+        while (oldTable != null) {
+            migrate();
+        }
+    }
+
+    // Pulls later entries of the probe run back into the hole, so no tombstone is left behind
+    private void shiftBackward(int hole) {
+        int mask = table.length - 1;
+        int index = nextIndex(hole, table.length);
+        while (table[index] != null) {
+            int home = indexFor(table[index].getKey(), table.length);
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                table[hole] = table[index];
+                hole = index;
+            }
+            index = nextIndex(index, table.length);
+        }
+        table[hole] = null;
+    }
+
+    private int indexFor(Object key, int length) {
+        int hash = seeded ? Hashing.seededHash(key, seed0, seed1) : key.hashCode();
+        if (powerOfTwo) {
+            return Hashing.mix(hash) & (length - 1);
+        }
+        return Math.abs(hash % length);
+    }
+
+    private int nextIndex(int index, int length) {
+        return powerOfTwo ? (index + 1) & (length - 1) : (index + 1) % length;
+    }
+
     public boolean isEmpty() {
         return size == 0;
     }
 
     public void clear() {
         table = new Entry[table.length];
+        oldTable = null;
         size = 0;
     }
 
@@ -199,12 +459,31 @@ public class HashMap<K, V> implements Iterable<HashMap.Entry<K, V>> {
         return table;
     }
 
+    Entry<K, V>[] getOldTable() {
+        return oldTable;
+    }
+
     @Override
     public Iterator<Entry<K, V>> iterator() {
+        finishResize();
         return new HashMapIterator();
     }
 
-    static class Entry<K, V> {
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        finishResize();
+        return new HashMapSpliterator<>(table, 0, table.length, size);
+    }
+
+    public Stream<Entry<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<Entry<K, V>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    static class Entry<K, V> implements MapViews.MapEntry<K, V> {
 
         private final K key;
         private V value;
@@ -255,6 +534,27 @@ public class HashMap<K, V> implements Iterable<HashMap.Entry<K, V>> {
         }
     }
 
+    public class EntryView extends MapViews.EntryView<K, V, Entry<K, V>> {
+
+        private EntryView() {
+            super(HashMap.this);
+        }
+    }
+
+    public class KeyView extends MapViews.KeyView<K, V> {
+
+        private KeyView() {
+            super(HashMap.this);
+        }
+    }
+
+    public class ValueView extends MapViews.ValueView<K, V> {
+
+        private ValueView() {
+            super(HashMap.this);
+        }
+    }
+
     private class HashMapIterator implements Iterator<Entry<K, V>> {
 
         private int i;
@@ -287,4 +587,77 @@ public class HashMap<K, V> implements Iterable<HashMap.Entry<K, V>> {
             return null;
         }
     }
+
+    // Splits the backing table by index range, only the unsplit spliterator knows its exact size
+    private static final class HashMapSpliterator<K, V> implements Spliterator<Entry<K, V>> {
+
+        private final Entry<K, V>[] table;
+        private int index;
+        private final int fence;
+        private long estimate;
+        private boolean exact;
+
+        private HashMapSpliterator(Entry<K, V>[] table, int index, int fence, long estimate) {
+            this(table, index, fence, estimate, true);
+        }
+
+        private HashMapSpliterator(Entry<K, V>[] table, int index, int fence, long estimate, boolean exact) {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.exact = exact;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+            if (action == null) {
+                throw new NullPointerException("The action must not be null.");
+            }
+            while (index < fence) {
+                Entry<K, V> entry = table[index++];
+                if (entry != null && !entry.getRemoved()) {
+                    action.accept(entry);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Entry<K, V>> action) {
+            if (action == null) {
+                throw new NullPointerException("The action must not be null.");
+            }
+            for (; index < fence; index++) {
+                Entry<K, V> entry = table[index];
+                if (entry != null && !entry.getRemoved()) {
+                    action.accept(entry);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            estimate >>>= 1;
+            exact = false;
+            int start = index;
+            index = middle;
+            return new HashMapSpliterator<>(table, start, middle, estimate, false);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return (exact ? SIZED : 0) | DISTINCT | NONNULL;
+        }
+    }
 }
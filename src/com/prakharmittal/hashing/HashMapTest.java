@@ -7,11 +7,13 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -705,4 +707,423 @@ public class HashMapTest {
 
         assertEquals(map.hashCode(), mapZero.hashCode());
     }
+
+    @Test(timeout = TIMEOUT)
+    public void t37_PowerOfTwoInitialization() {
+        HashMap<Integer, String> pow = new HashMap<>(5, true);
+        assertEquals(0, pow.size());
+        assertArrayEquals(new HashMap.Entry[8], pow.getTable());
+
+        HashMap<Integer, String> powZero = new HashMap<>(0, true);
+        assertArrayEquals(new HashMap.Entry[4], powZero.getTable());
+
+        HashMap<Integer, String> powExact = new HashMap<>(16, true);
+        assertArrayEquals(new HashMap.Entry[16], powExact.getTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t38_PowerOfTwoPutGetRemove() {
+        HashMap<Integer, String> pow = new HashMap<>(0, true);
+        for (int i = 0; i < 1000; i++) {
+            assertNull(pow.put(i * 16, "V" + i));
+        }
+        assertEquals(1000, pow.size());
+        assertEquals(2048, pow.getTable().length);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("V" + i, pow.get(i * 16));
+        }
+        assertEquals("V7", pow.put(7 * 16, "W7"));
+        assertEquals("W7", pow.remove(7 * 16));
+        assertFalse(pow.contains(7 * 16));
+        assertThrows(NoSuchElementException.class, () -> {
+            pow.get(7 * 16);
+        });
+        assertEquals(999, pow.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t39_PowerOfTwoResize() {
+        HashMap<Integer, String> pow = new HashMap<>(4, true);
+        assertNull(pow.put(0, "A"));
+        assertNull(pow.put(1, "B"));
+
+        pow.resizeBackingTable(20);
+        assertEquals(32, pow.getTable().length);
+        assertEquals("A", pow.get(0));
+        assertEquals("B", pow.get(1));
+
+        assertNull(mapZero.put(0, "A"));
+        assertNull(mapZero.put(1, "B"));
+        assertEquals(mapZero, pow);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t40_PowerOfTwoRemoveShiftsBackward() {
+        HashMap<Integer, String> pow = new HashMap<>(64, true);
+        for (int i = 0; i < 40; i++) {
+            assertNull(pow.put(i, "V" + i));
+        }
+        for (int i = 0; i < 40; i += 2) {
+            assertEquals("V" + i, pow.remove(i));
+        }
+        assertEquals(20, pow.size());
+
+        int occupied = 0;
+        for (HashMap.Entry<Integer, String> entry: pow.getTable()) {
+            if (entry != null) {
+                assertFalse(entry.getRemoved());
+                occupied++;
+            }
+        }
+        assertEquals(20, occupied);
+        for (int i = 1; i < 40; i += 2) {
+            assertEquals("V" + i, pow.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t41_PowerOfTwoChurn() {
+        HashMap<Integer, String> pow = new HashMap<>(16, true);
+        for (int i = 0; i < 5000; i++) {
+            assertNull(pow.put(i, "V" + i));
+            if (i >= 8) {
+                assertEquals("V" + (i - 8), pow.remove(i - 8));
+            }
+        }
+        assertEquals(8, pow.size());
+        assertEquals(16, pow.getTable().length);
+        for (int i = 4992; i < 5000; i++) {
+            assertEquals("V" + i, pow.get(i));
+        }
+        assertFalse(pow.contains(4991));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t42_IncrementalResizeStartsMigration() {
+        HashMap<Integer, String> inc = new HashMap<>(64, true, true);
+        for (int i = 0; i < 42; i++) {
+            assertNull(inc.put(i, "V" + i));
+        }
+        assertNull(inc.getOldTable());
+
+        assertNull(inc.put(42, "V42"));
+        assertNotNull(inc.getOldTable());
+        assertEquals(64, inc.getOldTable().length);
+        assertEquals(128, inc.getTable().length);
+        assertEquals(43, inc.size());
+
+        for (int i = 0; i < 43; i++) {
+            assertEquals("V" + i, inc.get(i));
+        }
+        assertNull(inc.getOldTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t43_IncrementalResizeDuringMigration() {
+        HashMap<Integer, String> inc = new HashMap<>(64, true, true);
+        for (int i = 0; i < 43; i++) {
+            assertNull(inc.put(i, "V" + i));
+        }
+        assertNotNull(inc.getOldTable());
+        assertEquals("V40", inc.put(40, "W40"));
+        assertEquals("V41", inc.remove(41));
+        assertFalse(inc.contains(41));
+        assertThrows(NoSuchElementException.class, () -> {
+            inc.remove(41);
+        });
+        assertEquals(42, inc.size());
+
+        HashMap<Integer, String> full = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            assertNull(full.put(i, "V" + i));
+        }
+        assertNull(full.put(40, "W40"));
+        assertNull(full.put(42, "V42"));
+        assertNotNull(inc.getOldTable());
+        assertEquals(full, inc);
+        assertNull(inc.getOldTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t44_IncrementalResizeChurn() {
+        HashMap<Integer, String> inc = new HashMap<>(4, true, true);
+        for (int i = 0; i < 20000; i++) {
+            assertNull(inc.put(i, "V" + i));
+            if (i % 3 == 0) {
+                assertEquals("V" + (i / 2), inc.remove(i / 2));
+                assertNull(inc.put(i / 2, "W" + i));
+            }
+        }
+        assertEquals(20000, inc.size());
+        for (int i = 0; i < 20000; i++) {
+            assertTrue(inc.contains(i));
+        }
+        assertEquals("W19998", inc.get(9999));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t45_GetOrDefault() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.getOrDefault(null, "Z");
+        });
+        assertNull(map.put(0, "A"));
+        assertEquals("A", map.getOrDefault(0, "Z"));
+        assertEquals("Z", map.getOrDefault(1, "Z"));
+        assertNull(map.getOrDefault(1, null));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t46_PutIfAbsent() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.putIfAbsent(null, "A");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.putIfAbsent(0, null);
+        });
+        assertNull(map.putIfAbsent(0, "A"));
+        assertEquals("A", map.putIfAbsent(0, "B"));
+        assertEquals("A", map.get(0));
+        assertEquals(1, map.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t47_ComputeIfAbsent() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.computeIfAbsent(0, null);
+        });
+        assertEquals("K5", map.computeIfAbsent(5, k -> "K" + k));
+        assertEquals("K5", map.computeIfAbsent(5, k -> "X"));
+        assertNull(map.computeIfAbsent(6, k -> null));
+        assertFalse(map.contains(6));
+        assertEquals(1, map.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t48_Compute() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.compute(null, (k, v) -> "A");
+        });
+        assertEquals("A", map.compute(0, (k, v) -> v == null ? "A" : v + "A"));
+        assertEquals("AA", map.compute(0, (k, v) -> v == null ? "A" : v + "A"));
+        assertNull(map.compute(1, (k, v) -> null));
+        assertEquals(1, map.size());
+
+        assertNull(map.compute(0, (k, v) -> null));
+        assertEquals(0, map.size());
+        assertFalse(map.contains(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t49_MergeWordCount() {
+        HashMap<String, Integer> counts = new HashMap<>(4, true);
+        String[] words = "the quick brown fox jumps over the lazy dog the end".split(" ");
+        for (String word: words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        assertEquals(9, counts.size());
+        assertEquals(Integer.valueOf(3), counts.get("the"));
+        assertEquals(Integer.valueOf(1), counts.get("fox"));
+
+        assertNull(counts.merge("the", 1, (a, b) -> null));
+        assertFalse(counts.contains("the"));
+        assertEquals(8, counts.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t50_UpsertDuringIncrementalResize() {
+        HashMap<Integer, Integer> inc = new HashMap<>(64, true, true);
+        for (int i = 0; i < 43; i++) {
+            assertNull(inc.putIfAbsent(i, i));
+        }
+        assertNotNull(inc.getOldTable());
+        for (int i = 0; i < 43; i++) {
+            assertEquals(Integer.valueOf(i + 1), inc.merge(i, 1, Integer::sum));
+        }
+        for (int i = 0; i < 43; i += 2) {
+            assertNull(inc.compute(i, (k, v) -> null));
+        }
+        assertEquals(21, inc.size());
+        for (int i = 0; i < 43; i++) {
+            assertEquals(i % 2 == 1 ? Integer.valueOf(i + 1) : null, inc.getOrDefault(i, null));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t51_Views() {
+        HashMap<Integer, String>.KeyView keys = map.keyView();
+        HashMap<Integer, String>.ValueView values = map.valueView();
+        HashMap<Integer, String>.EntryView entries = map.entryView();
+        assertTrue(keys.isEmpty());
+        assertEquals(0, values.size());
+
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(5, "B"));
+        assertNull(map.put(7, "C"));
+        assertEquals(3, keys.size());
+        assertEquals(3, entries.size());
+        assertTrue(keys.contains(5));
+        assertFalse(keys.contains(1));
+        assertTrue(values.contains("C"));
+        assertFalse(values.contains("D"));
+        assertTrue(entries.contains(new HashMap.Entry<>(0, "A")));
+        assertFalse(entries.contains(new HashMap.Entry<>(0, "B")));
+        assertThrows(IllegalArgumentException.class, () -> {
+            keys.contains(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            values.contains(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            entries.contains(null);
+        });
+
+        assertEquals("B", map.remove(5));
+        assertEquals(2, keys.size());
+        assertFalse(keys.contains(5));
+        assertFalse(values.contains("B"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t52_ViewIterators() {
+        for (int i = 0; i < 20; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        HashSet<Integer> keys = new HashSet<>();
+        for (Integer key: map.keyView()) {
+            keys.add(key);
+        }
+        assertEquals(map.keys(), keys);
+
+        HashSet<String> values = new HashSet<>();
+        for (String value: map.valueView()) {
+            values.add(value);
+        }
+        assertEquals(20, values.size());
+        for (int i = 0; i < 20; i++) {
+            assertTrue(values.contains("V" + i));
+        }
+
+        int count = 0;
+        for (HashMap.Entry<Integer, String> entry: map.entryView()) {
+            assertEquals("V" + entry.getKey(), entry.getValue());
+            count++;
+        }
+        assertEquals(20, count);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t53_ViewsAreLive() {
+        HashMap<Integer, String>.KeyView keys = map.keyView();
+        assertNull(map.put(1, "A"));
+        assertEquals(Integer.valueOf(1), keys.iterator().next());
+        for (int i = 2; i < 50; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        assertEquals(49, keys.size());
+        int count = 0;
+        for (Integer key: keys) {
+            assertTrue(map.contains(key));
+            count++;
+        }
+        assertEquals(49, count);
+        map.clear();
+        assertTrue(keys.isEmpty());
+        assertFalse(keys.iterator().hasNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t54_SeededMode() {
+        HashMap<Object, Integer> prime = new HashMap<>(13, false, false, true);
+        HashMap<Object, Integer> power = new HashMap<>(16, true, true, true);
+        for (int i = 0; i < 1000; i++) {
+            prime.put(i, i);
+            prime.put("S" + i, i);
+            power.put(i, i);
+            power.put("S" + i, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(Integer.valueOf(i), prime.remove("S" + i));
+            assertEquals(Integer.valueOf(i), power.remove(i));
+        }
+        assertEquals(1500, prime.size());
+        assertEquals(1500, power.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), prime.get(i));
+            assertEquals(i % 2 == 1, prime.contains("S" + i));
+            assertEquals(i % 2 == 1, power.contains(i));
+            assertEquals(Integer.valueOf(i), power.get("S" + i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t55_SeededSpreadsCollidingKeys() {
+        HashMap<String, Integer> plain = new HashMap<>(101);
+        HashMap<String, Integer> seeded = new HashMap<>(101, false, false, true);
+        // Keys chosen so that every one of them has the home slot 0 without a seed
+        int found = 0;
+        for (int i = 0; found < 60; i++) {
+            String key = "K" + i;
+            if (key.hashCode() % 101 == 0) {
+                plain.put(key, i);
+                seeded.put(key, i);
+                found++;
+            }
+        }
+        int plainRun = 0;
+        while (plain.getTable()[plainRun] != null) {
+            plainRun++;
+        }
+        int seededRun = 0;
+        while (seeded.getTable()[seededRun] != null) {
+            seededRun++;
+        }
+        assertEquals(60, plainRun);
+        assertTrue(seededRun < 30);
+        assertEquals(plain, seeded);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t56_Spliterator() {
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "V" + i);
+        }
+        map.remove(500);
+        Spliterator<HashMap.Entry<Integer, String>> whole = map.spliterator();
+        assertEquals(999, whole.estimateSize());
+        assertTrue(whole.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(whole.hasCharacteristics(Spliterator.DISTINCT));
+        assertTrue(whole.hasCharacteristics(Spliterator.NONNULL));
+        Spliterator<HashMap.Entry<Integer, String>> prefix = whole.trySplit();
+        assertNotNull(prefix);
+        assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        assertFalse(whole.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(-1, whole.getExactSizeIfKnown());
+        int[] count = new int[1];
+        assertTrue(prefix.tryAdvance(entry -> count[0]++));
+        prefix.forEachRemaining(entry -> count[0]++);
+        whole.forEachRemaining(entry -> count[0]++);
+        assertEquals(999, count[0]);
+        assertFalse(whole.tryAdvance(entry -> count[0]++));
+        assertThrows(NullPointerException.class, () -> whole.tryAdvance(null));
+
+        Spliterator<HashMap.Entry<Integer, String>> single = new HashMap<Integer, String>(1).spliterator();
+        while (single.trySplit() != null) {
+            assertTrue(single.estimateSize() >= 0);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t57_ParallelStream() {
+        HashMap<Integer, Long> large = new HashMap<>(16, true, true);
+        long expected = 0;
+        for (int i = 0; i < 5000; i++) {
+            large.put(i, (long) i * 3);
+            expected += (long) i * 3;
+        }
+        assertEquals(expected, large.parallelStream().mapToLong(HashMap.Entry::getValue).sum());
+        assertEquals(expected, large.stream().mapToLong(HashMap.Entry::getValue).sum());
+        assertEquals(5000, large.parallelStream().map(HashMap.Entry::getKey).distinct().count());
+        assertEquals(0, map.stream().count());
+    }
 }
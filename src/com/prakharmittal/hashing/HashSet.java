@@ -4,11 +4,16 @@ import com.prakharmittal.list.ArrayList;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class HashSet<K> implements Iterable<K> {
 
     private Entry<K>[] table;
     private int size;
+    private final boolean powerOfTwo;
 
     public static final int INITIAL_CAPACITY = 13;
     public static final double MAX_LOAD_FACTOR = 0.67;
@@ -18,7 +23,12 @@ public class HashSet<K> implements Iterable<K> {
     }
 
     public HashSet(int initialCapacity) {
-        table = new Entry[Math.max(3, initialCapacity)];
+        this(initialCapacity, false);
+    }
+
+    public HashSet(int initialCapacity, boolean powerOfTwo) {
+        this.powerOfTwo = powerOfTwo;
+        table = new Entry[powerOfTwo ? Hashing.tableSizeFor(initialCapacity) : Math.max(3, initialCapacity)];
     }
 
     public void add(K key) {
@@ -26,9 +36,9 @@ public class HashSet<K> implements Iterable<K> {
             throw new IllegalArgumentException("The key to be added must not be null.");
         }
         if ((size + 1.0) / table.length > MAX_LOAD_FACTOR) {
-            resizeBackingTable(2 * table.length + 1);
+            resizeBackingTable(powerOfTwo ? 2 * table.length : 2 * table.length + 1);
         }
-        int index = Math.abs(key.hashCode() % table.length);
+        int index = indexFor(key, table.length);
         int p = 0;
         int firstRemoved = -1;
         while (table[index] != null && p <= table.length) {
@@ -38,7 +48,7 @@ public class HashSet<K> implements Iterable<K> {
                 return;
             }
             p++;
-            index = (index + 1) % table.length;
+            index = nextIndex(index, table.length);
         }
         table[firstRemoved < 0 ? index : firstRemoved] = new Entry<>(key);
         size++;
@@ -48,16 +58,20 @@ public class HashSet<K> implements Iterable<K> {
         if (key == null) {
             throw new IllegalArgumentException("The key to be removed must not be null.");
         }
-        int index = Math.abs(key.hashCode() % table.length);
+        int index = indexFor(key, table.length);
         int p = 0;
         while (table[index] != null && p <= table.length) {
             if (!table[index].getRemoved() && table[index].getKey().equals(key)) {
-                table[index].setRemoved(true);
+                if (powerOfTwo) {
+                    shiftBackward(index);
+                } else {
+                    table[index].setRemoved(true);
+                }
                 size--;
                 return;
             }
             p++;
-            index = (index + 1) % table.length;
+            index = nextIndex(index, table.length);
         }
         throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
     }
@@ -66,14 +80,14 @@ public class HashSet<K> implements Iterable<K> {
         if (key == null) {
             throw new IllegalArgumentException("The key to be searched must not be null.");
         }
-        int index = Math.abs(key.hashCode() % table.length);
+        int index = indexFor(key, table.length);
         int p = 0;
         while (table[index] != null && p <= table.length) {
             if (!table[index].getRemoved() && table[index].getKey().equals(key)) {
                 return true;
             }
             p++;
-            index = (index + 1) % table.length;
+            index = nextIndex(index, table.length);
         }
         return false;
     }
@@ -90,17 +104,46 @@ public class HashSet<K> implements Iterable<K> {
         if (length < size) {
             throw new IllegalArgumentException("Length should be greater than " + size + ".");
         }
+        if (powerOfTwo) {
+            length = Hashing.tableSizeFor(length);
+        }
         Entry<K>[] newTable = new Entry[length];
         for (K key: this) {
-            int index = Math.abs(key.hashCode() % length);
+            int index = indexFor(key, length);
             while (newTable[index] != null) {
-                index = (index + 1) % length;
+                index = nextIndex(index, length);
             }
             newTable[index] = new Entry<>(key);
         }
         table = newTable;
     }
 
+    // Pulls later entries of the probe run back into the hole, so no tombstone is left behind
+    private void shiftBackward(int hole) {
+        int mask = table.length - 1;
+        int index = nextIndex(hole, table.length);
+        while (table[index] != null) {
+            int home = indexFor(table[index].getKey(), table.length);
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                table[hole] = table[index];
+                hole = index;
+            }
+            index = nextIndex(index, table.length);
+        }
+        table[hole] = null;
+    }
+
+    private int indexFor(Object key, int length) {
+        if (powerOfTwo) {
+            return Hashing.mix(key.hashCode()) & (length - 1);
+        }
+        return Math.abs(key.hashCode() % length);
+    }
+
+    private int nextIndex(int index, int length) {
+        return powerOfTwo ? (index + 1) & (length - 1) : (index + 1) % length;
+    }
+
     public boolean isEmpty() {
         return size == 0;
     }
@@ -168,6 +211,19 @@ public class HashSet<K> implements Iterable<K> {
         return new HashSetIterator();
     }
 
+    @Override
+    public Spliterator<K> spliterator() {
+        return new HashSetSpliterator<>(table, 0, table.length, size);
+    }
+
+    public Stream<K> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<K> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     static class Entry<K> {
 
         private final K key;
@@ -241,4 +297,77 @@ public class HashSet<K> implements Iterable<K> {
             return null;
         }
     }
+
+    // Splits the backing table by index range, only the unsplit spliterator knows its exact size
+    private static final class HashSetSpliterator<K> implements Spliterator<K> {
+
+        private final Entry<K>[] table;
+        private int index;
+        private final int fence;
+        private long estimate;
+        private boolean exact;
+
+        private HashSetSpliterator(Entry<K>[] table, int index, int fence, long estimate) {
+            this(table, index, fence, estimate, true);
+        }
+
+        private HashSetSpliterator(Entry<K>[] table, int index, int fence, long estimate, boolean exact) {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.exact = exact;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super K> action) {
+            if (action == null) {
+                throw new NullPointerException("The action must not be null.");
+            }
+            while (index < fence) {
+                Entry<K> entry = table[index++];
+                if (entry != null && !entry.getRemoved()) {
+                    action.accept(entry.getKey());
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super K> action) {
+            if (action == null) {
+                throw new NullPointerException("The action must not be null.");
+            }
+            for (; index < fence; index++) {
+                Entry<K> entry = table[index];
+                if (entry != null && !entry.getRemoved()) {
+                    action.accept(entry.getKey());
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<K> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            estimate >>>= 1;
+            exact = false;
+            int start = index;
+            index = middle;
+            return new HashSetSpliterator<>(table, start, middle, estimate, false);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return (exact ? SIZED : 0) | DISTINCT | NONNULL;
+        }
+    }
 }
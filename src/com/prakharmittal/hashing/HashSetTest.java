@@ -7,6 +7,7 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
@@ -546,4 +547,95 @@ public class HashSetTest {
 
         assertEquals(set.hashCode(), setZero.hashCode());
     }
+
+    @Test(timeout = TIMEOUT)
+    public void t28_PowerOfTwoInitialization() {
+        HashSet<Integer> pow = new HashSet<>(5, true);
+        assertEquals(0, pow.size());
+        assertArrayEquals(new HashSet.Entry[8], pow.getTable());
+
+        HashSet<Integer> powZero = new HashSet<>(0, true);
+        assertArrayEquals(new HashSet.Entry[4], powZero.getTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t29_PowerOfTwoAddContainsRemove() {
+        HashSet<Integer> pow = new HashSet<>(0, true);
+        for (int i = 0; i < 1000; i++) {
+            pow.add(i * 16);
+        }
+        pow.add(0);
+        assertEquals(1000, pow.size());
+        assertEquals(2048, pow.getTable().length);
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(pow.contains(i * 16));
+            assertFalse(pow.contains(i * 16 + 1));
+        }
+        pow.remove(7 * 16);
+        assertFalse(pow.contains(7 * 16));
+        assertThrows(NoSuchElementException.class, () -> {
+            pow.remove(7 * 16);
+        });
+        assertEquals(999, pow.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t30_PowerOfTwoRemoveShiftsBackward() {
+        HashSet<Integer> pow = new HashSet<>(16, true);
+        for (int i = 0; i < 5000; i++) {
+            pow.add(i);
+            if (i >= 8) {
+                pow.remove(i - 8);
+            }
+        }
+        assertEquals(8, pow.size());
+        assertEquals(16, pow.getTable().length);
+
+        int occupied = 0;
+        for (HashSet.Entry<Integer> entry: pow.getTable()) {
+            if (entry != null) {
+                assertFalse(entry.getRemoved());
+                occupied++;
+            }
+        }
+        assertEquals(8, occupied);
+        for (int i = 4992; i < 5000; i++) {
+            assertTrue(pow.contains(i));
+        }
+        assertFalse(pow.contains(4991));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t31_Spliterator() {
+        HashSet<Integer> large = new HashSet<>(16, true);
+        for (int i = 0; i < 1000; i++) {
+            large.add(i);
+        }
+        large.remove(500);
+        Spliterator<Integer> whole = large.spliterator();
+        assertEquals(999, whole.estimateSize());
+        assertTrue(whole.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT | Spliterator.NONNULL));
+        Spliterator<Integer> prefix = whole.trySplit();
+        assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        assertFalse(whole.hasCharacteristics(Spliterator.SIZED));
+        HashSet<Integer> seen = new HashSet<>();
+        prefix.forEachRemaining(seen::add);
+        whole.forEachRemaining(seen::add);
+        assertEquals(999, seen.size());
+        assertFalse(seen.contains(500));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t32_ParallelStream() {
+        HashSet<Integer> large = new HashSet<>();
+        long expected = 0;
+        for (int i = 0; i < 5000; i++) {
+            large.add(i);
+            expected += i;
+        }
+        assertEquals(expected, large.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, large.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(0, set.stream().count());
+    }
 }
@@ -0,0 +1,123 @@
+package com.prakharmittal.hashing;
+
+import java.security.SecureRandom;
+
+final class Hashing {
+
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static final SecureRandom SEEDS = new SecureRandom();
+
+    private Hashing() {
+    }
+
+    // Murmur3 finalizer, so that weak hash codes still use every bit of a power of two mask
+    static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    // Murmur3 64-bit finalizer, folded down to an int
+    static int mix64(long h) {
+        return (int) fmix64(h);
+    }
+
+    static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Integer.highestOneBit(Math.max(4, capacity) - 1) << 1;
+    }
+
+    // Secret per-instance keys, so that an attacker cannot predict which keys share a bucket
+    static long randomSeed() {
+        return SEEDS.nextLong();
+    }
+
+    // Strings are hashed by their contents under the keys, other keys can only have their hash code scrambled
+    static int seededHash(Object key, long k0, long k1) {
+        if (key instanceof String) {
+            return (int) sipHash13(k0, k1, (String) key);
+        }
+        return (int) fmix64((key.hashCode() & 0xFFFFFFFFL) ^ k0);
+    }
+
+    // SipHash-1-3 over the UTF-16LE encoding of the string, without encoding it
+    static long sipHash13(long k0, long k1, CharSequence data) {
+        long[] v = sipInit(k0, k1);
+        int length = data.length();
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            sipCompress(v, data.charAt(i) | (long) data.charAt(i + 1) << 16
+                    | (long) data.charAt(i + 2) << 32 | (long) data.charAt(i + 3) << 48);
+        }
+        long last = (long) (2 * length) << 56;
+        for (int shift = 0; i < length; i++, shift += 16) {
+            last |= (long) data.charAt(i) << shift;
+        }
+        return sipFinish(v, last);
+    }
+
+    static long sipHash13(long k0, long k1, byte[] data) {
+        long[] v = sipInit(k0, k1);
+        int i = 0;
+        for (; i + 8 <= data.length; i += 8) {
+            long m = 0;
+            for (int j = 7; j >= 0; j--) {
+                m = m << 8 | (data[i + j] & 0xFFL);
+            }
+            sipCompress(v, m);
+        }
+        long last = (long) data.length << 56;
+        for (int shift = 0; i < data.length; i++, shift += 8) {
+            last |= (data[i] & 0xFFL) << shift;
+        }
+        return sipFinish(v, last);
+    }
+
+    private static long[] sipInit(long k0, long k1) {
+        return new long[] {k0 ^ 0x736f6d6570736575L, k1 ^ 0x646f72616e646f6dL,
+                k0 ^ 0x6c7967656e657261L, k1 ^ 0x7465646279746573L};
+    }
+
+    private static void sipCompress(long[] v, long m) {
+        v[3] ^= m;
+        sipRound(v);
+        v[0] ^= m;
+    }
+
+    private static long sipFinish(long[] v, long last) {
+        sipCompress(v, last);
+        v[2] ^= 0xFF;
+        sipRound(v);
+        sipRound(v);
+        sipRound(v);
+        return v[0] ^ v[1] ^ v[2] ^ v[3];
+    }
+
+    private static void sipRound(long[] v) {
+        v[0] += v[1];
+        v[1] = Long.rotateLeft(v[1], 13) ^ v[0];
+        v[0] = Long.rotateLeft(v[0], 32);
+        v[2] += v[3];
+        v[3] = Long.rotateLeft(v[3], 16) ^ v[2];
+        v[0] += v[3];
+        v[3] = Long.rotateLeft(v[3], 21) ^ v[0];
+        v[2] += v[1];
+        v[1] = Long.rotateLeft(v[1], 17) ^ v[2];
+        v[2] = Long.rotateLeft(v[2], 32);
+    }
+}
@@ -0,0 +1,56 @@
+package com.prakharmittal.hashing;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HashingTest {
+
+    private static final int TIMEOUT = 200;
+    private static final long K0 = 0x0706050403020100L;
+    private static final long K1 = 0x0f0e0d0c0b0a0908L;
+
+    @Test(timeout = TIMEOUT)
+    public void t01_SipHashStringMatchesUtf16Bytes() {
+        String[] strings = {"", "a", "ab", "abc", "abcd", "hello, world!", "\u00e9\u4e2d\ud83d\ude00"};
+        for (String string: strings) {
+            assertEquals(Hashing.sipHash13(K0, K1, string.getBytes(StandardCharsets.UTF_16LE)),
+                    Hashing.sipHash13(K0, K1, string));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_SipHashDependsOnKeyAndLength() {
+        byte[] data = new byte[15];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        long hash = Hashing.sipHash13(K0, K1, data);
+        assertEquals(hash, Hashing.sipHash13(K0, K1, data.clone()));
+        assertNotEquals(hash, Hashing.sipHash13(K0 + 1, K1, data));
+        assertNotEquals(hash, Hashing.sipHash13(K0, K1 + 1, data));
+        assertNotEquals(Hashing.sipHash13(K0, K1, new byte[0]), Hashing.sipHash13(K0, K1, new byte[1]));
+        assertNotEquals(Hashing.seededHash("key", K0, K1), Hashing.seededHash("key", K1, K0));
+    }
+
+    // Reference outputs for the key 00..0f and the input 00..(n - 1), as in the SipHash paper's test vectors
+    @Test(timeout = TIMEOUT)
+    public void t03_SipHashKnownAnswers() {
+        int[] lengths = {0, 7, 8, 15};
+        long[] expected = {0xabac0158050fc4dcL, 0xd3927d989bb11140L, 0x369095118d299a8eL, 0xd320d86d2a519956L};
+        for (int i = 0; i < lengths.length; i++) {
+            byte[] data = new byte[lengths[i]];
+            for (int j = 0; j < data.length; j++) {
+                data[j] = (byte) j;
+            }
+            assertEquals(expected[i], Hashing.sipHash13(K0, K1, data));
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.prakharmittal.hashing;
+
+import java.nio.ByteBuffer;
+
+// Starts sparse, recording rank per 25-bit index, and switches to 2^precision packed 6-bit registers once that is smaller
+public class HyperLogLog<K> {
+
+    private final int precision;
+    private IntIntHashMap sparse;
+    private byte[] registers;
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+    public static final int DEFAULT_PRECISION = 14;
+
+    static final int SPARSE_PRECISION = 25;
+    static final int REGISTER_BITS = 6;
+
+    private static final byte SPARSE = 0;
+    private static final byte DENSE = 1;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("The precision must be between " + MIN_PRECISION
+                    + " and " + MAX_PRECISION + ".");
+        }
+        this.precision = precision;
+        sparse = new IntIntHashMap();
+    }
+
+    // Returns true if the estimate may have changed
+    public boolean add(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        }
+        long hash = Hashing.fmix64(key.hashCode());
+        if (sparse == null) {
+            int index = (int) (hash >>> (64 - precision));
+            return setMax(index, Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        }
+        int index = (int) (hash >>> (64 - SPARSE_PRECISION));
+        int rank = Long.numberOfLeadingZeros((hash << SPARSE_PRECISION) | (1L << (SPARSE_PRECISION - 1))) + 1;
+        if (rank <= sparse.getOrDefault(index, 0)) {
+            return false;
+        }
+        sparse.put(index, rank);
+        if (sparse.size() > sparseThreshold()) {
+            toDense();
+        }
+        return true;
+    }
+
+    public long cardinality() {
+        if (sparse != null) {
+            // Linear counting over the 2^25 sparse indices stays exact to within a fraction of a percent
+            long buckets = 1L << SPARSE_PRECISION;
+            return Math.round(buckets * Math.log((double) buckets / (buckets - sparse.size())));
+        }
+        int m = 1 << precision;
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < m; i++) {
+            int register = getRegister(i);
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public void merge(HyperLogLog<K> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The sketch to be merged must not be null.");
+        } else if (other.precision != precision) {
+            throw new IllegalArgumentException("Only sketches with the same precision can be merged.");
+        }
+        if (sparse != null && other.sparse != null) {
+            for (int index: other.sparse.keys()) {
+                int rank = other.sparse.get(index);
+                if (rank > sparse.getOrDefault(index, 0)) {
+                    sparse.put(index, rank);
+                }
+            }
+            if (sparse.size() > sparseThreshold()) {
+                toDense();
+            }
+            return;
+        }
+        if (sparse != null) {
+            toDense();
+        }
+        if (other.sparse != null) {
+            for (int index: other.sparse.keys()) {
+                foldSparse(index, other.sparse.get(index));
+            }
+        } else {
+            for (int i = 0; i < 1 << precision; i++) {
+                setMax(i, other.getRegister(i));
+            }
+        }
+    }
+
+    public byte[] toByteArray() {
+        if (sparse != null) {
+            ByteBuffer buffer = ByteBuffer.allocate(6 + 4 * sparse.size());
+            buffer.put(SPARSE).put((byte) precision).putInt(sparse.size());
+            for (int index: sparse.keys()) {
+                buffer.putInt((index << REGISTER_BITS) | sparse.get(index));
+            }
+            return buffer.array();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(2 + registers.length);
+        buffer.put(DENSE).put((byte) precision).put(registers);
+        return buffer.array();
+    }
+
+    public static <K> HyperLogLog<K> fromByteArray(byte[] bytes) {
+        if (bytes == null || bytes.length < 2) {
+            throw new IllegalArgumentException("The bytes do not hold a serialized HyperLogLog.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte mode = buffer.get();
+        HyperLogLog<K> output = new HyperLogLog<>(buffer.get());
+        if (mode == SPARSE && bytes.length >= 6) {
+            int count = buffer.getInt();
+            if (count < 0 || bytes.length != 6 + 4L * count) {
+                throw new IllegalArgumentException("The bytes do not hold a serialized HyperLogLog.");
+            }
+            // Every entry must name a sparse index once, with a rank the sparse hash bits can produce
+            for (int i = 0; i < count; i++) {
+                int entry = buffer.getInt();
+                int index = entry >>> REGISTER_BITS;
+                int rank = entry & ((1 << REGISTER_BITS) - 1);
+                if (index >= 1 << SPARSE_PRECISION || rank < 1 || rank > 64 - SPARSE_PRECISION + 1
+                        || output.sparse.contains(index)) {
+                    throw new IllegalArgumentException("The bytes do not hold a serialized HyperLogLog.");
+                }
+                output.sparse.put(index, rank);
+            }
+            if (output.sparse.size() > output.sparseThreshold()) {
+                output.toDense();
+            }
+        } else if (mode == DENSE && bytes.length == 2 + registerBytes(output.precision)) {
+            output.sparse = null;
+            output.registers = new byte[registerBytes(output.precision)];
+            buffer.get(output.registers);
+        } else {
+            throw new IllegalArgumentException("The bytes do not hold a serialized HyperLogLog.");
+        }
+        return output;
+    }
+
+    // The sparse map spends two ints and an occupancy bit on each slot of a power of two table that it keeps at
+    // most MAX_LOAD_FACTOR full, so past this many entries its table would outgrow the dense registers
+    private int sparseThreshold() {
+        int slots = Integer.highestOneBit(registerBytes(precision) * 8 / 65);
+        if (slots < IntIntHashMap.INITIAL_CAPACITY) {
+            return 0;
+        }
+        return (int) (slots * IntIntHashMap.MAX_LOAD_FACTOR);
+    }
+
+    private void toDense() {
+        registers = new byte[registerBytes(precision)];
+        for (int index: sparse.keys()) {
+            foldSparse(index, sparse.get(index));
+        }
+        sparse = null;
+    }
+
+    // The index bits below the dense precision become the leading bits of the dense rank
+    private void foldSparse(int index, int rank) {
+        int extra = SPARSE_PRECISION - precision;
+        int low = index & ((1 << extra) - 1);
+        int denseRank = low == 0 ? extra + rank : Integer.numberOfLeadingZeros(low) - (32 - extra) + 1;
+        setMax(index >>> extra, denseRank);
+    }
+
+    private int getRegister(int index) {
+        int offset = index * REGISTER_BITS;
+        int word = (registers[offset >>> 3] & 0xFF) | ((registers[(offset >>> 3) + 1] & 0xFF) << 8);
+        return (word >>> (offset & 7)) & ((1 << REGISTER_BITS) - 1);
+    }
+
+    private boolean setMax(int index, int rank) {
+        if (rank <= getRegister(index)) {
+            return false;
+        }
+        int offset = index * REGISTER_BITS;
+        int shift = offset & 7;
+        int byteIndex = offset >>> 3;
+        int mask = ((1 << REGISTER_BITS) - 1) << shift;
+        int word = (registers[byteIndex] & 0xFF) | ((registers[byteIndex + 1] & 0xFF) << 8);
+        word = (word & ~mask) | (rank << shift);
+        registers[byteIndex] = (byte) word;
+        registers[byteIndex + 1] = (byte) (word >>> 8);
+        return true;
+    }
+
+    // One spare byte lets every register be read as a two byte window
+    private static int registerBytes(int precision) {
+        return ((1 << precision) * REGISTER_BITS + 7) / 8 + 1;
+    }
+
+    private static double alpha(int m) {
+        if (m == 16) {
+            return 0.673;
+        } else if (m == 32) {
+            return 0.697;
+        } else if (m == 64) {
+            return 0.709;
+        }
+        return 0.7213 / (1 + 1.079 / m);
+    }
+
+    public void clear() {
+        sparse = new IntIntHashMap();
+        registers = null;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    boolean isSparse() {
+        return sparse != null;
+    }
+}
@@ -0,0 +1,172 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HyperLogLogTest {
+
+    private static final int TIMEOUT = 2000;
+    private HyperLogLog<Integer> sketch;
+
+    @Before
+    public void setUp() {
+        sketch = new HyperLogLog<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, sketch.cardinality());
+        assertTrue(sketch.isSparse());
+        assertEquals(HyperLogLog.DEFAULT_PRECISION, sketch.getPrecision());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new HyperLogLog<Integer>(3);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new HyperLogLog<Integer>(19);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            sketch.add(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_SparseIsExactForSmallCounts() {
+        for (int i = 0; i < 600; i++) {
+            assertTrue(sketch.add(i));
+        }
+        for (int i = 0; i < 600; i++) {
+            assertFalse(sketch.add(i));
+        }
+        assertTrue(sketch.isSparse());
+        assertEquals(600, sketch.cardinality(), 2);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_DenseAccuracy() {
+        for (int i = 0; i < 200000; i++) {
+            sketch.add(i);
+        }
+        assertFalse(sketch.isSparse());
+        assertEquals(200000, sketch.cardinality(), 200000 * 0.03);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_SparseToDenseKeepsEstimate() {
+        HyperLogLog<Integer> small = new HyperLogLog<>(10);
+        // 769 register bytes fit a 64 slot table of 520 bytes, which holds 42 entries
+        for (int i = 0; i < 42; i++) {
+            small.add(i);
+        }
+        assertTrue(small.isSparse());
+        small.add(42);
+        assertFalse(small.isSparse());
+        for (int i = 43; i < 5000; i++) {
+            small.add(i);
+        }
+        assertFalse(small.isSparse());
+        assertEquals(5000, small.cardinality(), 5000 * 0.1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_Merge() {
+        HyperLogLog<Integer> sparseOther = new HyperLogLog<>();
+        HyperLogLog<Integer> denseOther = new HyperLogLog<>();
+        for (int i = 0; i < 300; i++) {
+            sketch.add(i);
+            sparseOther.add(i + 150);
+        }
+        for (int i = 0; i < 100000; i++) {
+            denseOther.add(-i - 1);
+        }
+        sketch.merge(sparseOther);
+        assertTrue(sketch.isSparse());
+        assertEquals(450, sketch.cardinality(), 2);
+
+        sketch.merge(denseOther);
+        assertFalse(sketch.isSparse());
+        assertEquals(100450, sketch.cardinality(), 100450 * 0.03);
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            sketch.merge(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            sketch.merge(new HyperLogLog<>(10));
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_Serialization() {
+        for (int i = 0; i < 300; i++) {
+            sketch.add(i);
+        }
+        byte[] sparseBytes = sketch.toByteArray();
+        assertEquals(6 + 4 * 300, sparseBytes.length);
+        HyperLogLog<Integer> copy = HyperLogLog.fromByteArray(sparseBytes);
+        assertTrue(copy.isSparse());
+        assertEquals(sketch.cardinality(), copy.cardinality());
+
+        for (int i = 300; i < 50000; i++) {
+            sketch.add(i);
+        }
+        byte[] denseBytes = sketch.toByteArray();
+        assertEquals(2 + (1 << 14) * 6 / 8 + 1, denseBytes.length);
+        copy = HyperLogLog.fromByteArray(denseBytes);
+        assertFalse(copy.isSparse());
+        assertEquals(sketch.cardinality(), copy.cardinality());
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            HyperLogLog.fromByteArray(new byte[] {1, 14, 0});
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_Clear() {
+        for (int i = 0; i < 50000; i++) {
+            sketch.add(i);
+        }
+        sketch.clear();
+        assertTrue(sketch.isSparse());
+        assertEquals(0, sketch.cardinality());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_CorruptSparseBytes() {
+        // Truncated header, a count beyond the bytes, and a negative count
+        byte[][] truncated = {
+                {0, 14},
+                {0, 14, 0, 0, 0, 2, 0, 0, 0, 65},
+                {0, 14, -1, -1, -1, -1},
+        };
+        for (byte[] bytes: truncated) {
+            assertThrows(IllegalArgumentException.class, () -> {
+                HyperLogLog.fromByteArray(bytes);
+            });
+        }
+        // An index past 2^25, ranks of 0 and 41, and the same index twice
+        int[][] entries = {{-1}, {1 << 6}, {(1 << 6) | 41}, {(5 << 6) | 1, (5 << 6) | 2}};
+        for (int[] entry: entries) {
+            ByteBuffer buffer = ByteBuffer.allocate(6 + 4 * entry.length).put((byte) 0).put((byte) 14)
+                    .putInt(entry.length);
+            for (int value: entry) {
+                buffer.putInt(value);
+            }
+            assertThrows(IllegalArgumentException.class, () -> {
+                HyperLogLog.fromByteArray(buffer.array());
+            });
+        }
+        HyperLogLog<Integer> valid = HyperLogLog.fromByteArray(ByteBuffer.allocate(10).put((byte) 0)
+                .put((byte) 14).putInt(1).putInt((5 << 6) | 40).array());
+        assertEquals(1, valid.cardinality());
+    }
+}
@@ -0,0 +1,298 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// A minimal perfect hash in the CHD style: keys are grouped into buckets and each bucket gets a seed that
+// scatters its keys onto free slots, so n keys fill exactly n slots and a lookup probes exactly one
+public final class ImmutableHashMap<K, V> implements Iterable<K> {
+
+    private final Object[] keys;
+    private final Object[] values;
+    private final int[] seeds;
+    private final HashMap<K, V> overflow;
+
+    public static final int BUCKET_SIZE = 2;
+    public static final int MAX_SEED = 1 << 24;
+
+    private ImmutableHashMap(Object[] keys, Object[] values, int[] seeds, HashMap<K, V> overflow) {
+        this.keys = keys;
+        this.values = values;
+        this.seeds = seeds;
+        this.overflow = overflow;
+    }
+
+    public static <K, V> ImmutableHashMap<K, V> freeze(HashMap<K, V> map) {
+        if (map == null) {
+            throw new IllegalArgumentException("The map to be frozen must not be null.");
+        }
+        int n = map.size();
+        Object[] inputKeys = new Object[n];
+        Object[] inputValues = new Object[n];
+        int[] codes = new int[n];
+        int i = 0;
+        for (HashMap.Entry<K, V> entry: map) {
+            inputKeys[i] = entry.getKey();
+            inputValues[i] = entry.getValue();
+            codes[i] = entry.getKey().hashCode();
+            i++;
+        }
+
+        // Counting sort of the keys by bucket
+        int[] seeds = new int[Math.max(1, (n + BUCKET_SIZE - 1) / BUCKET_SIZE)];
+        int[] start = new int[seeds.length + 1];
+        for (int code: codes) {
+            start[bucketOf(code, seeds.length) + 1]++;
+        }
+        for (int b = 0; b < seeds.length; b++) {
+            start[b + 1] += start[b];
+        }
+        int[] order = new int[n];
+        int[] fill = start.clone();
+        for (i = 0; i < n; i++) {
+            order[fill[bucketOf(codes[i], seeds.length)]++] = i;
+        }
+
+        // Equal hash codes always share a bucket and a slot, so all but the first go to the overflow map
+        HashMap<K, V> overflow = null;
+        int[] sizes = new int[seeds.length];
+        for (int b = 0; b < seeds.length; b++) {
+            int end = start[b];
+            for (int j = start[b]; j < start[b + 1]; j++) {
+                boolean duplicate = false;
+                for (int k = start[b]; k < end && !duplicate; k++) {
+                    duplicate = codes[order[k]] == codes[order[j]];
+                }
+                if (duplicate) {
+                    if (overflow == null) {
+                        overflow = new HashMap<>();
+                    }
+                    overflow.put((K) inputKeys[order[j]], (V) inputValues[order[j]]);
+                } else {
+                    order[end++] = order[j];
+                }
+            }
+            sizes[b] = end - start[b];
+        }
+
+        int m = n - (overflow == null ? 0 : overflow.size());
+        Object[] keys = new Object[m];
+        Object[] values = new Object[m];
+        boolean[] taken = new boolean[m];
+        int[] positions = new int[maxOf(sizes)];
+
+        // Largest buckets first, while the table still has the most room
+        ArrayList<Integer>[] bySize = new ArrayList[positions.length + 1];
+        for (int b = 0; b < seeds.length; b++) {
+            if (bySize[sizes[b]] == null) {
+                bySize[sizes[b]] = new ArrayList<>();
+            }
+            bySize[sizes[b]].addToBack(b);
+        }
+        for (int size = positions.length; size >= 2; size--) {
+            if (bySize[size] == null) {
+                continue;
+            }
+            for (int b: bySize[size]) {
+                seeds[b] = place(start[b], size, order, codes, taken, positions);
+                for (int j = 0; j < size; j++) {
+                    keys[positions[j]] = inputKeys[order[start[b] + j]];
+                    values[positions[j]] = inputValues[order[start[b] + j]];
+                }
+            }
+        }
+        // A single key needs no search, its seed simply names the slot as -(slot) - 1
+        int free = 0;
+        if (bySize.length > 1 && bySize[1] != null) {
+            for (int b: bySize[1]) {
+                while (taken[free]) {
+                    free++;
+                }
+                taken[free] = true;
+                seeds[b] = -free - 1;
+                keys[free] = inputKeys[order[start[b]]];
+                values[free] = inputValues[order[start[b]]];
+            }
+        }
+        return new ImmutableHashMap<>(keys, values, seeds, overflow);
+    }
+
+    private static int place(int from, int size, int[] order, int[] codes, boolean[] taken, int[] positions) {
+        for (int seed = 0; seed < MAX_SEED; seed++) {
+            int placed = 0;
+            while (placed < size) {
+                int position = slotOf(codes[order[from + placed]], seed, taken.length);
+                if (taken[position]) {
+                    break;
+                }
+                taken[position] = true;
+                positions[placed++] = position;
+            }
+            if (placed == size) {
+                return seed;
+            }
+            for (int j = 0; j < placed; j++) {
+                taken[positions[j]] = false;
+            }
+        }
+        throw new IllegalStateException("No seed places a bucket of " + size + " keys.");
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            return (V) values[index];
+        } else if (overflow != null && overflow.contains(key)) {
+            return overflow.get(key);
+        }
+        throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            return (V) values[index];
+        }
+        return overflow == null ? defaultValue : overflow.getOrDefault(key, defaultValue);
+    }
+
+    public boolean contains(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        return indexOf(key) >= 0 || (overflow != null && overflow.contains(key));
+    }
+
+    // One hashCode call and one equals call
+    private int indexOf(Object key) {
+        if (keys.length == 0) {
+            return -1;
+        }
+        int code = key.hashCode();
+        int seed = seeds[bucketOf(code, seeds.length)];
+        int index = seed < 0 ? -seed - 1 : slotOf(code, seed, keys.length);
+        return keys[index].equals(key) ? index : -1;
+    }
+
+    private static int bucketOf(int code, int buckets) {
+        return reduce(Hashing.mix(code), buckets);
+    }
+
+    private static int slotOf(int code, int seed, int length) {
+        return reduce(Hashing.mix64(((long) seed << 32) | (code & 0xFFFFFFFFL)), length);
+    }
+
+    // Maps a uniform int onto [0, length) with a multiply and a shift instead of a modulus
+    private static int reduce(int hash, int length) {
+        return (int) (((hash & 0xFFFFFFFFL) * length) >>> 32);
+    }
+
+    private static int maxOf(int[] array) {
+        int max = 0;
+        for (int value: array) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        return keys.length + (overflow == null ? 0 : overflow.size());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof ImmutableHashMap<?, ?>) {
+            ImmutableHashMap<Object, Object> other = (ImmutableHashMap<Object, Object>) o;
+            if (size() == other.size()) {
+                for (K key: this) {
+                    Object value = other.getOrDefault(key, null);
+                    if (value == null || !value.equals(getOrDefault(key, null))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (K key: this) {
+            hashCode ^= key.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String prefix = "";
+        builder.append("[");
+        for (K key: this) {
+            builder.append(prefix);
+            prefix = ", ";
+            builder.append(String.format("%s=%s", key.toString(), getOrDefault(key, null).toString()));
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    Object[] getKeyTable() {
+        return keys;
+    }
+
+    int[] getSeeds() {
+        return seeds;
+    }
+
+    HashMap<K, V> getOverflow() {
+        return overflow;
+    }
+
+    @Override
+    public Iterator<K> iterator() {
+        return new ImmutableHashMapIterator();
+    }
+
+    private class ImmutableHashMapIterator implements Iterator<K> {
+
+        private int i;
+        private final Iterator<HashMap.Entry<K, V>> overflowIterator;
+
+        private ImmutableHashMapIterator() {
+            i = 0;
+            overflowIterator = overflow == null ? null : overflow.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return i < keys.length || (overflowIterator != null && overflowIterator.hasNext());
+        }
+
+        @Override
+        public K next() {
+            if (i < keys.length) {
+                return (K) keys[i++];
+            } else if (hasNext()) {
+                return overflowIterator.next().getKey();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ImmutableHashMapTest {
+
+    private static final int TIMEOUT = 2000;
+    private HashMap<Integer, String> source;
+
+    @Before
+    public void setUp() {
+        source = new HashMap<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Empty() {
+        ImmutableHashMap<Integer, String> map = ImmutableHashMap.freeze(source);
+        assertEquals(0, map.size());
+        assertTrue(map.isEmpty());
+        assertFalse(map.contains(1));
+        assertEquals("X", map.getOrDefault(1, "X"));
+        assertThrows(NoSuchElementException.class, () -> {
+            map.get(1);
+        });
+        assertEquals("[]", map.toString());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_NullArguments() {
+        ImmutableHashMap<Integer, String> map = ImmutableHashMap.freeze(source);
+        assertThrows(IllegalArgumentException.class, () -> {
+            ImmutableHashMap.freeze(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.get(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.contains(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_SmallMap() {
+        source.put(1, "A");
+        source.put(2, "B");
+        source.put(3, "C");
+        ImmutableHashMap<Integer, String> map = ImmutableHashMap.freeze(source);
+        assertEquals(3, map.size());
+        assertEquals("A", map.get(1));
+        assertEquals("B", map.get(2));
+        assertEquals("C", map.get(3));
+        assertFalse(map.contains(4));
+        assertEquals(2, map.getSeeds().length);
+        assertEquals("[1=A]", ImmutableHashMap.freeze(single()).toString());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_MinimalAndPerfect() {
+        for (int i = 0; i < 100000; i++) {
+            source.put(i * 7, "V" + i);
+        }
+        ImmutableHashMap<Integer, String> map = ImmutableHashMap.freeze(source);
+        assertEquals(100000, map.size());
+        assertEquals(100000, map.getKeyTable().length);
+        assertNull(map.getOverflow());
+        for (Object key: map.getKeyTable()) {
+            assertNotNull(key);
+        }
+        for (int i = 0; i < 100000; i++) {
+            assertEquals("V" + i, map.get(i * 7));
+            assertFalse(map.contains(i * 7 + 1));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_EqualHashCodes() {
+        HashMap<String, Integer> colliding = new HashMap<>();
+        String[] keys = {"AaAa", "AaBB", "BBAa", "BBBB", "other"};
+        for (int i = 0; i < keys.length; i++) {
+            colliding.put(keys[i], i);
+        }
+        ImmutableHashMap<String, Integer> map = ImmutableHashMap.freeze(colliding);
+        assertEquals(5, map.size());
+        assertEquals(2, map.getKeyTable().length);
+        assertEquals(3, map.getOverflow().size());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(Integer.valueOf(i), map.get(keys[i]));
+        }
+        assertFalse(map.contains("AaAb"));
+        int count = 0;
+        for (String key: map) {
+            assertTrue(colliding.contains(key));
+            count++;
+        }
+        assertEquals(5, count);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_IsASnapshot() {
+        source.put(1, "A");
+        ImmutableHashMap<Integer, String> map = ImmutableHashMap.freeze(source);
+        source.put(1, "B");
+        source.put(2, "C");
+        assertEquals("A", map.get(1));
+        assertFalse(map.contains(2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_EqualsHashCode() {
+        HashMap<Integer, String> other = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            source.put(i, "V" + i);
+            other.put(99 - i, "V" + (99 - i));
+        }
+        ImmutableHashMap<Integer, String> map = ImmutableHashMap.freeze(source);
+        assertEquals(map, ImmutableHashMap.freeze(other));
+        assertEquals(map.hashCode(), ImmutableHashMap.freeze(other).hashCode());
+        other.put(0, "X");
+        assertNotEquals(map, ImmutableHashMap.freeze(other));
+        other.remove(0);
+        assertNotEquals(map, ImmutableHashMap.freeze(other));
+    }
+
+    private HashMap<Integer, String> single() {
+        HashMap<Integer, String> map = new HashMap<>();
+        map.put(1, "A");
+        return map;
+    }
+}
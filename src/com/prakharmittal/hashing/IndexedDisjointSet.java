@@ -0,0 +1,57 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+
+// Numbers the keys once up front, after which every find and union runs on an IntDisjointSet
+public class IndexedDisjointSet<T> {
+
+    private final HashMap<T, Integer> ids;
+    private final ArrayList<T> keys;
+    private final IntDisjointSet set;
+
+    public IndexedDisjointSet(HashSet<T> keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("The keys must not be null.");
+        }
+        ids = new HashMap<>(keys.size() * 2 + 1);
+        this.keys = new ArrayList<>(Math.max(1, keys.size()));
+        for (T key: keys) {
+            ids.put(key, this.keys.size());
+            this.keys.addToBack(key);
+        }
+        set = new IntDisjointSet(this.keys.size());
+    }
+
+    public T find(T key) {
+        return keys.get(set.find(idOf(key)));
+    }
+
+    public boolean union(T key1, T key2) {
+        if (key1 == null || key2 == null) {
+            throw new IllegalArgumentException("The keys must not be null.");
+        }
+        return set.union(idOf(key1), idOf(key2));
+    }
+
+    public boolean connected(T key1, T key2) {
+        if (key1 == null || key2 == null) {
+            throw new IllegalArgumentException("The keys must not be null.");
+        }
+        return set.connected(idOf(key1), idOf(key2));
+    }
+
+    public int getComponentCount() {
+        return set.getComponentCount();
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private int idOf(T key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be found must not be null.");
+        }
+        return ids.get(key);
+    }
+}
@@ -0,0 +1,76 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IndexedDisjointSetTest {
+
+    private static final int TIMEOUT = 200;
+    private IndexedDisjointSet<String> set;
+
+    @Before
+    public void setUp() {
+        HashSet<String> keys = new HashSet<>();
+        for (String key: new String[] {"A", "B", "C", "D", "E"}) {
+            keys.add(key);
+        }
+        set = new IndexedDisjointSet<>(keys);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Exceptions() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new IndexedDisjointSet<String>(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            set.find(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            set.union(null, "A");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            set.connected("A", null);
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            set.find("Z");
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            set.union("A", "Z");
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_Initialization() {
+        assertEquals(5, set.size());
+        assertEquals(5, set.getComponentCount());
+        assertEquals("C", set.find("C"));
+        assertEquals(0, new IndexedDisjointSet<>(new HashSet<String>()).size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_FindAndUnion() {
+        assertTrue(set.union("A", "B"));
+        assertEquals(set.find("A"), set.find("B"));
+        assertTrue(set.union("C", "D"));
+        assertFalse(set.union("B", "A"));
+        assertEquals(3, set.getComponentCount());
+        assertFalse(set.connected("A", "C"));
+
+        assertTrue(set.union("B", "D"));
+        assertTrue(set.connected("A", "C"));
+        assertEquals(set.find("A"), set.find("D"));
+        assertFalse(set.connected("A", "E"));
+        assertEquals(2, set.getComponentCount());
+    }
+}
@@ -0,0 +1,77 @@
+package com.prakharmittal.hashing;
+
+// Elements are the ints 0 to size - 1, ranks are bounded by log2(size) so a byte is enough
+public class IntDisjointSet {
+
+    private final int[] parent;
+    private final byte[] rank;
+    private int components;
+
+    public IntDisjointSet(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size must not be negative.");
+        }
+        parent = new int[size];
+        rank = new byte[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+        components = size;
+    }
+
+    // Path halving points every other node on the way up at its grandparent, without recursion
+    public int find(int element) {
+        checkElement(element);
+        while (parent[element] != element) {
+            parent[element] = parent[parent[element]];
+            element = parent[element];
+        }
+        return element;
+    }
+
+    // Returns false if the elements were already in the same set
+    public boolean union(int element1, int element2) {
+        int root1 = find(element1);
+        int root2 = find(element2);
+        if (root1 == root2) {
+            return false;
+        }
+        if (rank[root1] < rank[root2]) {
+            parent[root1] = root2;
+        } else if (rank[root1] > rank[root2]) {
+            parent[root2] = root1;
+        } else {
+            parent[root2] = root1;
+            rank[root1]++;
+        }
+        components--;
+        return true;
+    }
+
+    public boolean connected(int element1, int element2) {
+        return find(element1) == find(element2);
+    }
+
+    public int getComponentCount() {
+        return components;
+    }
+
+    public int size() {
+        return parent.length;
+    }
+
+    private void checkElement(int element) {
+        if (element < 0 || element >= parent.length) {
+            throw new IndexOutOfBoundsException("The element entered (" + element
+                    + ") is not in the range 0 to " + (parent.length - 1) + ".");
+        }
+    }
+
+    int[] getParent() {
+        return parent;
+    }
+
+    byte[] getRank() {
+        return rank;
+    }
+}
@@ -0,0 +1,106 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntDisjointSetTest {
+
+    private static final int TIMEOUT = 200;
+    private IntDisjointSet set;
+
+    @Before
+    public void setUp() {
+        set = new IntDisjointSet(10);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(10, set.size());
+        assertEquals(10, set.getComponentCount());
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, set.getParent());
+        assertEquals(0, new IntDisjointSet(0).getComponentCount());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new IntDisjointSet(-1);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_OutOfRange() {
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            set.find(-1);
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            set.find(10);
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            set.union(0, 10);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_UnionByRank() {
+        assertTrue(set.union(1, 2));
+        assertEquals(1, set.find(2));
+        assertEquals(1, set.getRank()[1]);
+
+        assertTrue(set.union(3, 1));
+        assertEquals(1, set.find(3));
+        assertEquals(1, set.getRank()[1]);
+
+        assertTrue(set.union(4, 5));
+        assertTrue(set.union(5, 2));
+        assertEquals(4, set.find(1));
+        assertEquals(2, set.getRank()[4]);
+
+        assertFalse(set.union(3, 4));
+        assertEquals(6, set.getComponentCount());
+        assertTrue(set.connected(2, 5));
+        assertFalse(set.connected(2, 6));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_PathHalving() {
+        IntDisjointSet chain = new IntDisjointSet(9);
+        int[] parent = chain.getParent();
+        for (int i = 0; i < 8; i++) {
+            parent[i] = i + 1;
+        }
+        assertEquals(8, chain.find(0));
+        assertArrayEquals(new int[] {2, 2, 4, 4, 6, 6, 8, 8, 8}, parent);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_LongChainNoOverflow() {
+        IntDisjointSet large = new IntDisjointSet(1000000);
+        int[] parent = large.getParent();
+        for (int i = 0; i < 999999; i++) {
+            parent[i] = i + 1;
+        }
+        assertEquals(999999, large.find(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_ComponentCount() {
+        for (int i = 0; i < 10; i += 2) {
+            assertTrue(set.union(i, i + 1));
+        }
+        assertEquals(5, set.getComponentCount());
+        for (int i = 0; i < 8; i += 2) {
+            assertTrue(set.union(i, i + 2));
+        }
+        assertEquals(1, set.getComponentCount());
+        for (int i = 1; i < 10; i++) {
+            assertTrue(set.connected(0, i));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntHashSetTest {
+
+    private static final int TIMEOUT = 200;
+    private IntHashSet set;
+    private IntHashSet setZero;
+
+    @Before
+    public void setUp() {
+        set = new IntHashSet(5);
+        setZero = new IntHashSet(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, set.size());
+        assertArrayEquals(new int[8], set.getKeyTable());
+        assertArrayEquals(new long[1], set.getOccupied());
+        assertEquals(set, setZero);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_Add() {
+        set.add(0);
+        set.add(-4);
+        set.add(Integer.MAX_VALUE);
+        set.add(0);
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-4));
+        assertTrue(set.contains(Integer.MAX_VALUE));
+        assertFalse(set.contains(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_AddResize() {
+        for (int i = 0; i < 1000; i++) {
+            set.add(i * 64);
+        }
+        assertEquals(1000, set.size());
+        assertEquals(2048, set.getKeyTable().length);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set.contains(i * 64));
+            assertFalse(set.contains(i * 64 + 1));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_Remove() {
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            set.remove(i);
+        }
+        assertEquals(50, set.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, set.contains(i));
+        }
+        assertThrows(NoSuchElementException.class, () -> {
+            set.remove(2);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_ToArray() {
+        set.add(3);
+        set.add(1);
+        set.add(2);
+
+        int[] keys = set.toArray();
+        Arrays.sort(keys);
+        assertArrayEquals(new int[] {1, 2, 3}, keys);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_IsEmptyClear() {
+        assertTrue(set.isEmpty());
+        set.add(0);
+        assertFalse(set.isEmpty());
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_Equals() {
+        assertNotEquals(5, set);
+
+        set.add(0);
+        set.add(4);
+        assertNotEquals(set, setZero);
+
+        setZero.add(4);
+        setZero.add(0);
+        assertEquals(set, setZero);
+        assertEquals(set.hashCode(), setZero.hashCode());
+        assertEquals("[0, 4]".length(), set.toString().length());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_ResizeFullTable() {
+        for (int i = 0; i < 4; i++) {
+            set.add(i);
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            set.resizeBackingTable(set.size());
+        });
+        assertFalse(set.contains(99));
+        set.resizeBackingTable(6);
+        assertFalse(set.contains(99));
+        assertTrue(set.contains(3));
+    }
+}
@@ -0,0 +1,164 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntIntHashMapTest {
+
+    private static final int TIMEOUT = 200;
+    private IntIntHashMap map;
+    private IntIntHashMap mapZero;
+
+    @Before
+    public void setUp() {
+        map = new IntIntHashMap(5);
+        mapZero = new IntIntHashMap(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, map.size());
+        assertArrayEquals(new int[8], map.getKeyTable());
+        assertArrayEquals(new long[1], map.getOccupied());
+
+        assertEquals(0, mapZero.size());
+        assertArrayEquals(new int[4], mapZero.getKeyTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_PutAddReplace() {
+        assertTrue(map.put(0, 10));
+        assertTrue(map.put(-4, 14));
+        assertTrue(map.put(Integer.MIN_VALUE, 55));
+        assertEquals(3, map.size());
+
+        assertFalse(map.put(0, 20));
+        assertEquals(3, map.size());
+        assertEquals(20, map.get(0));
+        assertEquals(14, map.get(-4));
+        assertEquals(55, map.get(Integer.MIN_VALUE));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_PutResize() {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(map.put(i * 64, i));
+        }
+        assertEquals(1000, map.size());
+        assertEquals(2048, map.getKeyTable().length);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, map.get(i * 64));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_RemoveNotFound() {
+        assertTrue(map.put(4, 1));
+        assertThrows(NoSuchElementException.class, () -> {
+            map.remove(2);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_RemoveFound() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(map.put(i, -i));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(-i, map.remove(i));
+        }
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, map.contains(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_GetNotFound() {
+        assertTrue(map.put(1, 1));
+        assertThrows(NoSuchElementException.class, () -> {
+            map.get(2);
+        });
+        assertEquals(-1, map.getOrDefault(2, -1));
+        assertEquals(1, map.getOrDefault(1, -1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_KeysValues() {
+        assertTrue(map.put(3, 30));
+        assertTrue(map.put(1, 10));
+        assertTrue(map.put(2, 20));
+
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new int[] {1, 2, 3}, keys);
+
+        int[] values = map.values();
+        Arrays.sort(values);
+        assertArrayEquals(new int[] {10, 20, 30}, values);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_ResizeIllegalLength() {
+        assertTrue(map.put(0, 0));
+        assertTrue(map.put(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.resizeBackingTable(1);
+        });
+
+        // A table with no empty slot would never end the probe for a missing key
+        assertTrue(map.put(2, 2));
+        assertTrue(map.put(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.resizeBackingTable(map.size());
+        });
+        assertFalse(map.contains(99));
+        map.resizeBackingTable(6);
+        assertFalse(map.contains(99));
+        assertEquals(3, map.get(3));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t09_IsEmptyClear() {
+        assertTrue(map.isEmpty());
+        assertTrue(map.put(0, 1));
+        assertFalse(map.isEmpty());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.contains(0));
+        assertArrayEquals(new long[1], map.getOccupied());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t10_Equals() {
+        assertEquals(map, mapZero);
+        assertNotEquals(5, map);
+
+        assertTrue(map.put(0, 1));
+        assertTrue(map.put(4, 2));
+        assertNotEquals(map, mapZero);
+
+        assertTrue(mapZero.put(4, 2));
+        assertTrue(mapZero.put(0, 1));
+        assertEquals(map, mapZero);
+        assertEquals(map.hashCode(), mapZero.hashCode());
+
+        assertFalse(mapZero.put(4, 3));
+        assertNotEquals(map, mapZero);
+    }
+}
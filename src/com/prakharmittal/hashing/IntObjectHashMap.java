@@ -0,0 +1,229 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+
+import java.util.NoSuchElementException;
+
+public class IntObjectHashMap<V> {
+
+    private int[] keys;
+    private Object[] values;
+    private long[] occupied;
+    private int size;
+
+    public static final int INITIAL_CAPACITY = 16;
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    public IntObjectHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public IntObjectHashMap(int initialCapacity) {
+        allocate(Hashing.tableSizeFor(initialCapacity));
+    }
+
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        if ((size + 1.0) / keys.length > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * keys.length);
+        }
+        int mask = keys.length - 1;
+        int index = Hashing.mix(key) & mask;
+        while (isOccupied(occupied, index)) {
+            if (keys[index] == key) {
+                V output = (V) values[index];
+                values[index] = value;
+                return output;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        occupied[index >>> 6] |= 1L << index;
+        size++;
+        return null;
+    }
+
+    public V remove(int key) {
+        int index = find(key);
+        if (index < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        V output = (V) values[index];
+        int mask = keys.length - 1;
+        int hole = index;
+        index = (index + 1) & mask;
+        while (isOccupied(occupied, index)) {
+            int home = Hashing.mix(keys[index]) & mask;
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                hole = index;
+            }
+            index = (index + 1) & mask;
+        }
+        values[hole] = null;
+        occupied[hole >>> 6] &= ~(1L << hole);
+        size--;
+        return output;
+    }
+
+    public V get(int key) {
+        int index = find(key);
+        if (index < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        return (V) values[index];
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        int index = find(key);
+        return index < 0 ? defaultValue : (V) values[index];
+    }
+
+    public boolean contains(int key) {
+        return find(key) >= 0;
+    }
+
+    private int find(int key) {
+        int mask = keys.length - 1;
+        int index = Hashing.mix(key) & mask;
+        while (isOccupied(occupied, index)) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    public int[] keys() {
+        int[] output = new int[size];
+        int j = 0;
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            output[j++] = keys[i];
+        }
+        return output;
+    }
+
+    public ArrayList<V> values() {
+        ArrayList<V> output = new ArrayList<>(size);
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            output.addToBack((V) values[i]);
+        }
+        return output;
+    }
+
+    public void resizeBackingTable(int length) {
+        if (length < size || size > Hashing.tableSizeFor(length) * MAX_LOAD_FACTOR) {
+            throw new IllegalArgumentException("Length should be at least " + (int) Math.ceil(size / MAX_LOAD_FACTOR) + ".");
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        long[] oldOccupied = occupied;
+        allocate(Hashing.tableSizeFor(length));
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (isOccupied(oldOccupied, i)) {
+                int index = Hashing.mix(oldKeys[i]) & mask;
+                while (isOccupied(occupied, index)) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                occupied[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    private void allocate(int length) {
+        keys = new int[length];
+        values = new Object[length];
+        occupied = new long[(length + 63) >>> 6];
+    }
+
+    private static boolean isOccupied(long[] bitmap, int index) {
+        return (bitmap[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private int nextOccupied(int from) {
+        if (from >= keys.length) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = occupied[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == occupied.length) {
+                return -1;
+            }
+            bits = occupied[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        values = new Object[values.length];
+        occupied = new long[occupied.length];
+        size = 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof IntObjectHashMap<?>) {
+            IntObjectHashMap<?> other = (IntObjectHashMap<?>) o;
+            if (size == other.size) {
+                for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+                    int index = other.find(keys[i]);
+                    if (index < 0 || !other.values[index].equals(values[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            hashCode ^= Integer.hashCode(keys[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String prefix = "";
+        builder.append("[");
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            builder.append(prefix);
+            prefix = ", ";
+            builder.append(keys[i]).append("=").append(values[i]);
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int[] getKeyTable() {
+        return keys;
+    }
+
+    long[] getOccupied() {
+        return occupied;
+    }
+}
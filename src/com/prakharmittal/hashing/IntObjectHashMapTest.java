@@ -0,0 +1,160 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntObjectHashMapTest {
+
+    private static final int TIMEOUT = 200;
+    private IntObjectHashMap<String> map;
+    private IntObjectHashMap<String> mapZero;
+
+    @Before
+    public void setUp() {
+        map = new IntObjectHashMap<>(5);
+        mapZero = new IntObjectHashMap<>(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, map.size());
+        assertArrayEquals(new int[8], map.getKeyTable());
+        assertArrayEquals(new long[1], map.getOccupied());
+
+        assertEquals(0, mapZero.size());
+        assertArrayEquals(new int[4], mapZero.getKeyTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_PutNullValue() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(0, null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_PutAddReplace() {
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(-4, "E"));
+        assertNull(map.put(55, "AA"));
+        assertEquals(3, map.size());
+
+        assertEquals("A", map.put(0, "B"));
+        assertEquals(3, map.size());
+        assertEquals("B", map.get(0));
+        assertEquals("E", map.get(-4));
+        assertEquals("AA", map.get(55));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_PutResize() {
+        for (int i = 0; i < 1000; i++) {
+            assertNull(map.put(i * 64, "V" + i));
+        }
+        assertEquals(1000, map.size());
+        assertEquals(2048, map.getKeyTable().length);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("V" + i, map.get(i * 64));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_RemoveFound() {
+        for (int i = 0; i < 100; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals("V" + i, map.remove(i));
+        }
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, map.contains(i));
+        }
+        assertThrows(NoSuchElementException.class, () -> {
+            map.remove(2);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_GetNotFound() {
+        assertNull(map.put(1, "B"));
+        assertThrows(NoSuchElementException.class, () -> {
+            map.get(2);
+        });
+        assertEquals("Z", map.getOrDefault(2, "Z"));
+        assertEquals("B", map.getOrDefault(1, "Z"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_KeysValues() {
+        assertNull(map.put(3, "C"));
+        assertNull(map.put(1, "A"));
+        assertNull(map.put(2, "B"));
+
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new int[] {1, 2, 3}, keys);
+
+        ArrayList<String> values = map.values();
+        assertEquals(3, values.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_IsEmptyClear() {
+        assertTrue(map.isEmpty());
+        assertNull(map.put(0, "A"));
+        assertFalse(map.isEmpty());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.contains(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t09_Equals() {
+        assertEquals(map, mapZero);
+        assertNotEquals(5, map);
+
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(4, "B"));
+        assertNotEquals(map, mapZero);
+
+        assertNull(mapZero.put(4, "B"));
+        assertNull(mapZero.put(0, "A"));
+        assertEquals(map, mapZero);
+        assertEquals(map.hashCode(), mapZero.hashCode());
+
+        assertEquals("B", mapZero.put(4, "C"));
+        assertNotEquals(map, mapZero);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t10_ResizeFullTable() {
+        for (int i = 0; i < 4; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.resizeBackingTable(map.size());
+        });
+        assertFalse(map.contains(99));
+        map.resizeBackingTable(6);
+        assertFalse(map.contains(99));
+        assertEquals("V3", map.get(3));
+    }
+}
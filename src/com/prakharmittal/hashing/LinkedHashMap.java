@@ -4,20 +4,45 @@ import com.prakharmittal.list.ArrayList;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
-public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>> {
+public class LinkedHashMap<K, V>  implements MapViews.Source<K, V, LinkedHashMap.Entry<K, V>> {
 
     private Entry<K, V>[] table;
     private int size;
+    private final boolean incremental;
+    private final boolean seeded;
+    private final long seed0;
+    private final long seed1;
+    private Entry<K, V>[] oldTable;
+    private int migrated;
+    private TreeEntry<K, V>[] trees;
+    private TreeEntry<K, V>[] oldTrees;
 
     public static final int INITIAL_CAPACITY = 13;
     public static final double MAX_LOAD_FACTOR = 0.67;
+    public static final int MIGRATION_STEP = 8;
+    public static final int TREEIFY_THRESHOLD = 8;
+    public static final int UNTREEIFY_THRESHOLD = 6;
 
     public LinkedHashMap() {
         this(INITIAL_CAPACITY);
     }
 
     public LinkedHashMap(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    public LinkedHashMap(int initialCapacity, boolean incremental) {
+        this(initialCapacity, incremental, false);
+    }
+
+    public LinkedHashMap(int initialCapacity, boolean incremental, boolean seeded) {
+        this.incremental = incremental;
+        this.seeded = seeded;
+        seed0 = seeded ? Hashing.randomSeed() : 0;
+        seed1 = seeded ? Hashing.randomSeed() : 0;
         table = new Entry[Math.max(3, initialCapacity)];
     }
 
@@ -27,46 +52,219 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
         } else if (value == null) {
             throw new IllegalArgumentException("The value to be added must not be null.");
         }
-        if ((size + 1.0) / table.length > MAX_LOAD_FACTOR) {
-            resizeBackingTable(2 * table.length + 1);
+        prepareInsert();
+        Entry<K, V> current = lookup(key);
+        if (current != null) {
+            V output = current.getValue();
+            current.setValue(value);
+            return output;
         }
-        int index = Math.abs(key.hashCode() % table.length);
-        Entry<K, V> current = table[index];
-        while (current != null) {
-            if (current.getKey().equals(key)) {
-                V output = current.getValue();
+        insertHead(key, value);
+        return null;
+    }
+
+    public V putIfAbsent(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        prepareInsert();
+        Entry<K, V> current = lookup(key);
+        if (current != null) {
+            return current.getValue();
+        }
+        insertHead(key, value);
+        return null;
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mapping) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be computed must not be null.");
+        } else if (mapping == null) {
+            throw new IllegalArgumentException("The mapping function must not be null.");
+        }
+        prepareInsert();
+        Entry<K, V> current = lookup(key);
+        if (current != null) {
+            return current.getValue();
+        }
+        V value = mapping.apply(key);
+        if (value != null) {
+            insertHead(key, value);
+        }
+        return value;
+    }
+
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remapping) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be merged must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be merged must not be null.");
+        } else if (remapping == null) {
+            throw new IllegalArgumentException("The remapping function must not be null.");
+        }
+        return compute(key, (k, oldValue) -> oldValue == null ? value : remapping.apply(oldValue, value));
+    }
+
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remapping) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be computed must not be null.");
+        } else if (remapping == null) {
+            throw new IllegalArgumentException("The remapping function must not be null.");
+        }
+        prepareInsert();
+        Entry<K, V> current = lookup(key);
+        V value = remapping.apply(key, current == null ? null : current.getValue());
+        if (current != null) {
+            if (value == null) {
+                if (removeEntry(table, trees, key) == null) {
+                    removeEntry(oldTable, oldTrees, key);
+                }
+                size--;
+            } else {
                 current.setValue(value);
-                return output;
             }
-            current = current.getNext();
+        } else if (value != null) {
+            insertHead(key, value);
+        }
+        return value;
+    }
+
+    private void prepareInsert() {
+        if ((size + 1.0) / table.length > MAX_LOAD_FACTOR) {
+            if (incremental) {
+                startResize(2 * table.length + 1);
+            } else {
+                resizeBackingTable(2 * table.length + 1);
+            }
+        }
+        migrate();
+    }
+
+    private Entry<K, V> lookup(K key) {
+        Entry<K, V> current = findEntry(table, trees, key);
+        if (current == null && oldTable != null) {
+            current = findEntry(oldTable, oldTrees, key);
         }
-        table[index] = new Entry<>(key, value, table[index]);
+        return current;
+    }
+
+    private void insertHead(K key, V value) {
+        link(new Entry<>(key, value));
         size++;
-        return null;
+    }
+
+    // Also used to move entries out of the old table, which may hand over tree entries to a plain bucket
+    private void link(Entry<K, V> entry) {
+        int index = indexFor(entry.getKey(), table.length);
+        if (trees != null && trees[index] != null) {
+            TreeEntry<K, V> node = new TreeEntry<>(entry.getKey(), entry.getValue());
+            trees[index] = TreeBin.prepend(node, (TreeEntry<K, V>) table[index], trees[index]);
+            table[index] = node;
+            return;
+        }
+        if (entry instanceof TreeEntry<?, ?>) {
+            entry = new Entry<>(entry.getKey(), entry.getValue());
+        }
+        entry.setNext(table[index]);
+        table[index] = entry;
+        if (chainLength(entry, TREEIFY_THRESHOLD) >= TREEIFY_THRESHOLD) {
+            treeify(index);
+        }
+    }
+
+    // A seeded map picks the bucket from a keyed hash, the trees still order entries by hashCode
+    private int indexFor(Object key, int length) {
+        int hash = seeded ? Hashing.seededHash(key, seed0, seed1) : key.hashCode();
+        return Math.abs(hash % length);
+    }
+
+    private static int chainLength(Entry<?, ?> current, int limit) {
+        int length = 0;
+        while (current != null && length < limit) {
+            length++;
+            current = current.getNext();
+        }
+        return length;
+    }
+
+    private void treeify(int index) {
+        if (trees == null) {
+            trees = new TreeEntry[table.length];
+        }
+        TreeEntry<K, V> tail = null;
+        for (Entry<K, V> current = table[index]; current != null; current = current.getNext()) {
+            TreeEntry<K, V> node = new TreeEntry<>(current.getKey(), current.getValue());
+            if (tail == null) {
+                table[index] = node;
+            } else {
+                tail.setNextNode(node);
+            }
+            tail = node;
+        }
+        trees[index] = TreeBin.treeify((TreeEntry<K, V>) table[index]);
+    }
+
+    private void untreeify(Entry<K, V>[] source, TreeEntry<K, V>[] sourceTrees, int index) {
+        Entry<K, V> tail = null;
+        for (Entry<K, V> current = source[index]; current != null; current = current.getNext()) {
+            Entry<K, V> entry = new Entry<>(current.getKey(), current.getValue());
+            if (tail == null) {
+                source[index] = entry;
+            } else {
+                tail.setNext(entry);
+            }
+            tail = entry;
+        }
+        sourceTrees[index] = null;
     }
 
     public V remove(K key) {
         if (key == null) {
             throw new IllegalArgumentException("The key to be removed must not be null.");
         }
-        int index = Math.abs(key.hashCode() % table.length);
-        Entry<K, V> current = table[index];
+        migrate();
+        Entry<K, V> removed = removeEntry(table, trees, key);
+        if (removed == null && oldTable != null) {
+            removed = removeEntry(oldTable, oldTrees, key);
+        }
+        if (removed == null) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        size--;
+        return removed.getValue();
+    }
+
+    private Entry<K, V> removeEntry(Entry<K, V>[] source, TreeEntry<K, V>[] sourceTrees, K key) {
+        int index = indexFor(key, source.length);
+        if (sourceTrees != null && sourceTrees[index] != null) {
+            TreeEntry<K, V> node = TreeBin.find(key, key.hashCode(), sourceTrees[index]);
+            if (node == null) {
+                return null;
+            }
+            sourceTrees[index] = TreeBin.remove(node, sourceTrees[index]);
+            source[index] = TreeBin.unlink(node, (TreeEntry<K, V>) source[index]);
+            if (chainLength(source[index], UNTREEIFY_THRESHOLD + 1) <= UNTREEIFY_THRESHOLD) {
+                untreeify(source, sourceTrees, index);
+            }
+            return node;
+        }
+        Entry<K, V> current = source[index];
         Entry<K, V> previous = null;
         while (current != null) {
             if (current.getKey().equals(key)) {
-                V output = current.getValue();
                 if (previous == null) {
-                    table[index] = current.getNext();
+                    source[index] = current.getNext();
                 } else {
                     previous.setNext(current.getNext());
                 }
-                size--;
-                return output;
+                return current;
             }
             previous = current;
             current = current.getNext();
         }
-        throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        return null;
     }
 
     public V get(K key) {
@@ -80,12 +278,29 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
         return output;
     }
 
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        V output = getHelper(key);
+        return output == null ? defaultValue : output;
+    }
+
     private V getHelper(K key) {
-        int index = Math.abs(key.hashCode() % table.length);
-        Entry<K, V> current = table[index];
+        migrate();
+        Entry<K, V> entry = lookup(key);
+        return entry == null ? null : entry.getValue();
+    }
+
+    private Entry<K, V> findEntry(Entry<K, V>[] source, TreeEntry<K, V>[] sourceTrees, K key) {
+        int index = indexFor(key, source.length);
+        if (sourceTrees != null && sourceTrees[index] != null) {
+            return TreeBin.find(key, key.hashCode(), sourceTrees[index]);
+        }
+        Entry<K, V> current = source[index];
         while (current != null) {
             if (current.getKey().equals(key)) {
-                return current.getValue();
+                return current;
             }
             current = current.getNext();
         }
@@ -100,6 +315,7 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
     }
 
     public LinkedHashSet<Entry<K, V>> entries() {
+        finishResize();
         LinkedHashSet<Entry<K, V>> output = new LinkedHashSet<>(size);
         for (Entry<K, V> entry: table) {
             if (entry != null) {
@@ -117,6 +333,7 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
     }
 
     public LinkedHashSet<K> keys() {
+        finishResize();
         LinkedHashSet<K> output = new LinkedHashSet<>(size);
         for (Entry<K, V> entry: table) {
             if (entry != null) {
@@ -134,6 +351,7 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
     }
 
     public ArrayList<V> values() {
+        finishResize();
         ArrayList<V> output = new ArrayList<>(size);
         for (Entry<K, V> entry: table) {
             if (entry != null) {
@@ -150,18 +368,32 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
         return output;
     }
 
+    public EntryView entryView() {
+        return new EntryView();
+    }
+
+    public KeyView keyView() {
+        return new KeyView();
+    }
+
+    public ValueView valueView() {
+        return new ValueView();
+    }
+
     public void resizeBackingTable(int length) {
         if (length < size) {
             throw new IllegalArgumentException("Length should be greater than " + size + ".");
         }
-        Entry<K, V>[] newTable = new Entry[length];
+        finishResize();
+        Entry<K, V>[] previousTable = table;
+        table = new Entry[length];
+        trees = null;
         int count = 0;
-        for (Entry<K, V> entry: table) {
+        for (Entry<K, V> entry: previousTable) {
             if (entry != null) {
                 Entry<K, V> current = entry;
                 while (current != null) {
-                    int index = Math.abs(current.getKey().hashCode() % newTable.length);
-                    newTable[index] = new Entry<>(current.getKey(), current.getValue(), newTable[index]);
+                    link(new Entry<>(current.getKey(), current.getValue()));
                     count++;
                     current = current.getNext();
                 }
@@ -170,7 +402,45 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
                 break;
             }
         }
-        table = newTable;
+    }
+
+    private void startResize(int length) {
+        finishResize();
+        oldTable = table;
+        oldTrees = trees;
+        table = new Entry[length];
+        trees = null;
+        migrated = 0;
+    }
+
+    // Relinks the chains of at most MIGRATION_STEP old buckets into the new table per call
+    private void migrate() {
+        if (oldTable == null) {
+            return;
+        }
+        int end = Math.min(oldTable.length, migrated + MIGRATION_STEP);
+        for (; migrated < end; migrated++) {
+            Entry<K, V> current = oldTable[migrated];
+            while (current != null) {
+                Entry<K, V> next = current.getNext();
+                link(current);
+                current = next;
+            }
+            oldTable[migrated] = null;
+            if (oldTrees != null) {
+                oldTrees[migrated] = null;
+            }
+        }
+        if (migrated == oldTable.length) {
+            oldTable = null;
+            oldTrees = null;
+        }
+    }
+
+    private void finishResize() {
+        while (oldTable != null) {
+            migrate();
+        }
     }
 
     public boolean isEmpty() {
@@ -179,6 +449,9 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
 
     public void clear() {
         table = new Entry[table.length];
+        oldTable = null;
+        trees = null;
+        oldTrees = null;
         size = 0;
     }
 
@@ -189,6 +462,7 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
         } else if (o instanceof LinkedHashMap<?, ?>) {
             LinkedHashMap<Object, Object> other = (LinkedHashMap<Object, Object>) o;
             if (size == other.size) {
+                finishResize();
                 int count = 0;
                 for (Entry<K, V> entry: table) {
                     if (entry != null) {
@@ -217,6 +491,7 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
 
     @Override
     public int hashCode() {
+        finishResize();
         int hashCode = 0;
         int count = 0;
         for (Entry<K, V> entry: table) {
@@ -237,6 +512,7 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
 
     @Override
     public String toString() {
+        finishResize();
         StringBuilder builder = new StringBuilder();
         String prefix = "";
         builder.append("[");
@@ -268,12 +544,21 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
         return table;
     }
 
+    Entry<K, V>[] getOldTable() {
+        return oldTable;
+    }
+
+    TreeEntry<K, V>[] getTrees() {
+        return trees;
+    }
+
     @Override
     public Iterator<Entry<K, V>> iterator() {
-        return entries().iterator();
+        finishResize();
+        return new LinkedHashMapIterator();
     }
 
-    static class Entry<K, V> {
+    static class Entry<K, V> implements MapViews.MapEntry<K, V> {
 
         private final K key;
         private V value;
@@ -328,4 +613,128 @@ public class LinkedHashMap<K, V>  implements Iterable<LinkedHashMap.Entry<K, V>>
             return key.hashCode() ^ value.hashCode();
         }
     }
+
+    static final class TreeEntry<K, V> extends Entry<K, V> implements TreeBin.Node<TreeEntry<K, V>> {
+
+        private final int hash;
+        private TreeEntry<K, V> previous;
+        private TreeEntry<K, V> left;
+        private TreeEntry<K, V> right;
+        private int height;
+
+        private TreeEntry(K key, V value) {
+            super(key, value);
+            hash = key.hashCode();
+        }
+
+        @Override
+        public int getHash() {
+            return hash;
+        }
+
+        @Override
+        public TreeEntry<K, V> getNextNode() {
+            return (TreeEntry<K, V>) getNext();
+        }
+
+        @Override
+        public void setNextNode(TreeEntry<K, V> next) {
+            ((Entry<K, V>) this).setNext(next);
+        }
+
+        @Override
+        public TreeEntry<K, V> getPrevious() {
+            return previous;
+        }
+
+        @Override
+        public void setPrevious(TreeEntry<K, V> previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public TreeEntry<K, V> getLeft() {
+            return left;
+        }
+
+        @Override
+        public void setLeft(TreeEntry<K, V> left) {
+            this.left = left;
+        }
+
+        @Override
+        public TreeEntry<K, V> getRight() {
+            return right;
+        }
+
+        @Override
+        public void setRight(TreeEntry<K, V> right) {
+            this.right = right;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public void setHeight(int height) {
+            this.height = height;
+        }
+    }
+
+    public class EntryView extends MapViews.EntryView<K, V, Entry<K, V>> {
+
+        private EntryView() {
+            super(LinkedHashMap.this);
+        }
+    }
+
+    public class KeyView extends MapViews.KeyView<K, V> {
+
+        private KeyView() {
+            super(LinkedHashMap.this);
+        }
+    }
+
+    public class ValueView extends MapViews.ValueView<K, V> {
+
+        private ValueView() {
+            super(LinkedHashMap.this);
+        }
+    }
+
+    private class LinkedHashMapIterator implements Iterator<Entry<K, V>> {
+
+        private int i;
+        private int j;
+        private Entry<K, V> current;
+
+        private LinkedHashMapIterator() {
+            i = 0;
+            j = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (j < size) {
+                while (current == null && i < table.length) {
+                    current = table[i++];
+                }
+                return current != null;
+            }
+            return false;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (hasNext()) {
+                Entry<K, V> output = current;
+                current = current.getNext();
+                j++;
+                return output;
+            }
+            return null;
+        }
+    }
 }
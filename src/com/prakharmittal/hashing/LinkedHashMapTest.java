@@ -12,6 +12,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -576,4 +577,410 @@ public class LinkedHashMapTest {
 
         assertEquals(map.hashCode(), mapZero.hashCode());
     }
+
+    @Test(timeout = TIMEOUT)
+    public void t35_IncrementalResizeStartsMigration() {
+        LinkedHashMap<Integer, String> inc = new LinkedHashMap<>(64, true);
+        for (int i = 0; i < 42; i++) {
+            assertNull(inc.put(i, "V" + i));
+        }
+        assertNull(inc.getOldTable());
+
+        assertNull(inc.put(42, "V42"));
+        assertNotNull(inc.getOldTable());
+        assertEquals(64, inc.getOldTable().length);
+        assertEquals(129, inc.getTable().length);
+        assertEquals(43, inc.size());
+
+        for (int i = 0; i < 43; i++) {
+            assertEquals("V" + i, inc.get(i));
+        }
+        assertNull(inc.getOldTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t36_IncrementalResizeDuringMigration() {
+        LinkedHashMap<Integer, String> inc = new LinkedHashMap<>(64, true);
+        for (int i = 0; i < 43; i++) {
+            assertNull(inc.put(i, "V" + i));
+        }
+        assertNotNull(inc.getOldTable());
+        assertEquals("V40", inc.put(40, "W40"));
+        assertEquals("V41", inc.remove(41));
+        assertFalse(inc.contains(41));
+        assertThrows(NoSuchElementException.class, () -> {
+            inc.remove(41);
+        });
+        assertEquals(42, inc.size());
+
+        LinkedHashMap<Integer, String> full = new LinkedHashMap<>();
+        for (int i = 0; i < 40; i++) {
+            assertNull(full.put(i, "V" + i));
+        }
+        assertNull(full.put(40, "W40"));
+        assertNull(full.put(42, "V42"));
+        assertNotNull(inc.getOldTable());
+        assertEquals(full, inc);
+        assertNull(inc.getOldTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t37_IncrementalResizeChurn() {
+        LinkedHashMap<Integer, String> inc = new LinkedHashMap<>(4, true);
+        for (int i = 0; i < 20000; i++) {
+            assertNull(inc.put(i, "V" + i));
+            if (i % 3 == 0) {
+                assertEquals("V" + (i / 2), inc.remove(i / 2));
+                assertNull(inc.put(i / 2, "W" + i));
+            }
+        }
+        assertEquals(20000, inc.size());
+        for (int i = 0; i < 20000; i++) {
+            assertTrue(inc.contains(i));
+        }
+        assertEquals("W19998", inc.get(9999));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t38_GetOrDefault() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.getOrDefault(null, "Z");
+        });
+        assertNull(map.put(0, "A"));
+        assertEquals("A", map.getOrDefault(0, "Z"));
+        assertEquals("Z", map.getOrDefault(1, "Z"));
+        assertNull(map.getOrDefault(1, null));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t39_PutIfAbsent() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.putIfAbsent(null, "A");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.putIfAbsent(0, null);
+        });
+        assertNull(map.putIfAbsent(0, "A"));
+        assertEquals("A", map.putIfAbsent(0, "B"));
+        assertEquals("A", map.get(0));
+        assertEquals(1, map.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t40_ComputeIfAbsent() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.computeIfAbsent(0, null);
+        });
+        assertEquals("K5", map.computeIfAbsent(5, k -> "K" + k));
+        assertEquals("K5", map.computeIfAbsent(5, k -> "X"));
+        assertNull(map.computeIfAbsent(6, k -> null));
+        assertFalse(map.contains(6));
+        assertEquals(1, map.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t41_Compute() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.compute(null, (k, v) -> "A");
+        });
+        assertEquals("A", map.compute(0, (k, v) -> v == null ? "A" : v + "A"));
+        assertEquals("AA", map.compute(0, (k, v) -> v == null ? "A" : v + "A"));
+        assertNull(map.compute(1, (k, v) -> null));
+        assertEquals(1, map.size());
+
+        assertNull(map.compute(0, (k, v) -> null));
+        assertEquals(0, map.size());
+        assertFalse(map.contains(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t42_MergeWordCount() {
+        LinkedHashMap<String, Integer> counts = new LinkedHashMap<>(4);
+        String[] words = "the quick brown fox jumps over the lazy dog the end".split(" ");
+        for (String word: words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        assertEquals(9, counts.size());
+        assertEquals(Integer.valueOf(3), counts.get("the"));
+        assertEquals(Integer.valueOf(1), counts.get("fox"));
+
+        assertNull(counts.merge("the", 1, (a, b) -> null));
+        assertFalse(counts.contains("the"));
+        assertEquals(8, counts.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t43_UpsertDuringIncrementalResize() {
+        LinkedHashMap<Integer, Integer> inc = new LinkedHashMap<>(64, true);
+        for (int i = 0; i < 43; i++) {
+            assertNull(inc.putIfAbsent(i, i));
+        }
+        assertNotNull(inc.getOldTable());
+        for (int i = 0; i < 43; i++) {
+            assertEquals(Integer.valueOf(i + 1), inc.merge(i, 1, Integer::sum));
+        }
+        for (int i = 0; i < 43; i += 2) {
+            assertNull(inc.compute(i, (k, v) -> null));
+        }
+        assertEquals(21, inc.size());
+        for (int i = 0; i < 43; i++) {
+            assertEquals(i % 2 == 1 ? Integer.valueOf(i + 1) : null, inc.getOrDefault(i, null));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t44_Views() {
+        LinkedHashMap<Integer, String>.KeyView keys = map.keyView();
+        LinkedHashMap<Integer, String>.ValueView values = map.valueView();
+        LinkedHashMap<Integer, String>.EntryView entries = map.entryView();
+        assertTrue(keys.isEmpty());
+        assertEquals(0, values.size());
+
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(5, "B"));
+        assertNull(map.put(7, "C"));
+        assertEquals(3, keys.size());
+        assertEquals(3, entries.size());
+        assertTrue(keys.contains(5));
+        assertFalse(keys.contains(1));
+        assertTrue(values.contains("C"));
+        assertFalse(values.contains("D"));
+        assertTrue(entries.contains(new LinkedHashMap.Entry<>(0, "A")));
+        assertFalse(entries.contains(new LinkedHashMap.Entry<>(0, "B")));
+        assertThrows(IllegalArgumentException.class, () -> {
+            keys.contains(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            values.contains(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            entries.contains(null);
+        });
+
+        assertEquals("B", map.remove(5));
+        assertEquals(2, keys.size());
+        assertFalse(keys.contains(5));
+        assertFalse(values.contains("B"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t45_ViewIterators() {
+        for (int i = 0; i < 20; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        LinkedHashSet<Integer> keys = new LinkedHashSet<>();
+        for (Integer key: map.keyView()) {
+            keys.add(key);
+        }
+        assertEquals(map.keys(), keys);
+
+        LinkedHashSet<String> values = new LinkedHashSet<>();
+        for (String value: map.valueView()) {
+            values.add(value);
+        }
+        assertEquals(20, values.size());
+        for (int i = 0; i < 20; i++) {
+            assertTrue(values.contains("V" + i));
+        }
+
+        int count = 0;
+        for (LinkedHashMap.Entry<Integer, String> entry: map.entryView()) {
+            assertEquals("V" + entry.getKey(), entry.getValue());
+            count++;
+        }
+        assertEquals(20, count);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t46_ViewsAreLive() {
+        LinkedHashMap<Integer, String>.KeyView keys = map.keyView();
+        assertNull(map.put(1, "A"));
+        assertEquals(Integer.valueOf(1), keys.iterator().next());
+        for (int i = 2; i < 50; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        assertEquals(49, keys.size());
+        int count = 0;
+        for (Integer key: keys) {
+            assertTrue(map.contains(key));
+            count++;
+        }
+        assertEquals(49, count);
+        map.clear();
+        assertTrue(keys.isEmpty());
+        assertFalse(keys.iterator().hasNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t47_TreeifyCollidingKeys() {
+        LinkedHashMap<Collider, Integer> colliders = new LinkedHashMap<>(4096);
+        int index = Math.abs(new Collider(0).hashCode() % colliders.getTable().length);
+        for (int i = 0; i < LinkedHashMap.TREEIFY_THRESHOLD - 1; i++) {
+            assertNull(colliders.put(new Collider(i), i));
+        }
+        assertNull(colliders.getTrees());
+        for (int i = LinkedHashMap.TREEIFY_THRESHOLD - 1; i < 2000; i++) {
+            assertNull(colliders.put(new Collider(i), i));
+        }
+        LinkedHashMap.TreeEntry<Collider, Integer> root = colliders.getTrees()[index];
+        assertNotNull(root);
+        // An AVL tree of 2000 entries is at most 1.44 * log2(2000) high
+        assertTrue(root.getHeight() <= 15);
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(Integer.valueOf(i), colliders.get(new Collider(i)));
+        }
+        assertFalse(colliders.contains(new Collider(2000)));
+        assertEquals(Integer.valueOf(7), colliders.put(new Collider(7), 70));
+        assertEquals(Integer.valueOf(70), colliders.get(new Collider(7)));
+        int count = 0;
+        for (LinkedHashMap.Entry<Collider, Integer> entry: colliders) {
+            count++;
+        }
+        assertEquals(2000, count);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t48_UntreeifyOnRemove() {
+        LinkedHashMap<Collider, Integer> colliders = new LinkedHashMap<>(64);
+        int index = Math.abs(new Collider(0).hashCode() % colliders.getTable().length);
+        for (int i = 0; i < 20; i++) {
+            colliders.put(new Collider(i), i);
+        }
+        for (int i = 0; i < 13; i++) {
+            assertEquals(Integer.valueOf(i), colliders.remove(new Collider(i)));
+            assertNotNull(colliders.getTrees()[index]);
+        }
+        assertThrows(NoSuchElementException.class, () -> {
+            colliders.remove(new Collider(0));
+        });
+        assertEquals(Integer.valueOf(13), colliders.remove(new Collider(13)));
+        assertNull(colliders.getTrees()[index]);
+        assertFalse(colliders.getTable()[index] instanceof LinkedHashMap.TreeEntry);
+        for (int i = 14; i < 20; i++) {
+            assertEquals(Integer.valueOf(i), colliders.get(new Collider(i)));
+        }
+        assertEquals(6, colliders.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t49_TreeifyUnorderedKeys() {
+        LinkedHashMap<Object, Integer> mixed = new LinkedHashMap<>();
+        for (int i = 0; i < 300; i++) {
+            mixed.put(i % 2 == 0 ? new Collider(i) : new UnorderedCollider(i), i);
+        }
+        for (int i = 0; i < 300; i++) {
+            assertEquals(Integer.valueOf(i), mixed.get(i % 2 == 0 ? new Collider(i) : new UnorderedCollider(i)));
+        }
+        for (int i = 0; i < 300; i += 3) {
+            mixed.remove(i % 2 == 0 ? new Collider(i) : new UnorderedCollider(i));
+        }
+        assertEquals(200, mixed.size());
+        for (int i = 0; i < 300; i++) {
+            assertEquals(i % 3 != 0, mixed.contains(i % 2 == 0 ? new Collider(i) : new UnorderedCollider(i)));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t50_TreeifyDuringIncrementalResize() {
+        LinkedHashMap<Collider, Integer> inc = new LinkedHashMap<>(3, true);
+        for (int i = 0; i < 500; i++) {
+            inc.put(new Collider(i), i);
+            if (i % 5 == 0) {
+                assertEquals(i / 2 % 7 == 6 ? null : Integer.valueOf(i / 2), inc.compute(new Collider(i / 2), (k, v) -> v));
+            }
+            if (i % 7 == 6) {
+                assertEquals(Integer.valueOf(i), inc.remove(new Collider(i)));
+            }
+        }
+        assertNull(inc.compute(new Collider(1), (k, v) -> null));
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i % 7 != 6 && i != 1, inc.contains(new Collider(i)));
+        }
+        assertEquals(500 - 500 / 7 - 1, inc.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t51_SeededMode() {
+        LinkedHashMap<Object, Integer> seeded = new LinkedHashMap<>(13, true, true);
+        for (int i = 0; i < 1000; i++) {
+            seeded.put(i, i);
+            seeded.put("S" + i, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(Integer.valueOf(i), seeded.remove("S" + i));
+        }
+        assertEquals(1500, seeded.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), seeded.get(i));
+            assertEquals(i % 2 == 1, seeded.contains("S" + i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t52_SeededSpreadsCollidingKeys() {
+        LinkedHashMap<String, Integer> plain = new LinkedHashMap<>(101);
+        LinkedHashMap<String, Integer> seeded = new LinkedHashMap<>(101, false, true);
+        // Keys chosen so that every one of them lands in bucket 0 without a seed
+        int found = 0;
+        for (int i = 0; found < 60; i++) {
+            String key = "K" + i;
+            if (key.hashCode() % 101 == 0) {
+                plain.put(key, i);
+                seeded.put(key, i);
+                found++;
+            }
+        }
+        int plainBuckets = 0;
+        int seededBuckets = 0;
+        for (int i = 0; i < 101; i++) {
+            plainBuckets += plain.getTable()[i] == null ? 0 : 1;
+            seededBuckets += seeded.getTable()[i] == null ? 0 : 1;
+        }
+        assertEquals(1, plainBuckets);
+        assertTrue(seededBuckets > 20);
+        assertEquals(plain, seeded);
+    }
+
+    private static class Collider implements Comparable<Collider> {
+
+        private final int id;
+
+        private Collider(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Collider other) {
+            return Integer.compare(id, other.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider && ((Collider) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    private static class UnorderedCollider {
+
+        private final int id;
+
+        private UnorderedCollider(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof UnorderedCollider && ((UnorderedCollider) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
 }
@@ -9,9 +9,12 @@ public class LinkedHashSet<K>  implements Iterable<K> {
 
     private Entry<K>[] table;
     private int size;
+    private TreeEntry<K>[] trees;
 
     public static final int INITIAL_CAPACITY = 13;
     public static final double MAX_LOAD_FACTOR = 0.67;
+    public static final int TREEIFY_THRESHOLD = 8;
+    public static final int UNTREEIFY_THRESHOLD = 6;
 
     public LinkedHashSet() {
         this(INITIAL_CAPACITY);
@@ -28,16 +31,80 @@ public class LinkedHashSet<K>  implements Iterable<K> {
         if ((size + 1.0) / table.length > MAX_LOAD_FACTOR) {
             resizeBackingTable(2 * table.length + 1);
         }
+        if (findEntry(key) == null) {
+            link(new Entry<>(key));
+            size++;
+        }
+    }
+
+    private void link(Entry<K> entry) {
+        int index = Math.abs(entry.getKey().hashCode() % table.length);
+        if (trees != null && trees[index] != null) {
+            TreeEntry<K> node = new TreeEntry<>(entry.getKey());
+            trees[index] = TreeBin.prepend(node, (TreeEntry<K>) table[index], trees[index]);
+            table[index] = node;
+            return;
+        }
+        entry.setNext(table[index]);
+        table[index] = entry;
+        if (chainLength(entry, TREEIFY_THRESHOLD) >= TREEIFY_THRESHOLD) {
+            treeify(index);
+        }
+    }
+
+    private static int chainLength(Entry<?> current, int limit) {
+        int length = 0;
+        while (current != null && length < limit) {
+            length++;
+            current = current.getNext();
+        }
+        return length;
+    }
+
+    private void treeify(int index) {
+        if (trees == null) {
+            trees = new TreeEntry[table.length];
+        }
+        TreeEntry<K> tail = null;
+        for (Entry<K> current = table[index]; current != null; current = current.getNext()) {
+            TreeEntry<K> node = new TreeEntry<>(current.getKey());
+            if (tail == null) {
+                table[index] = node;
+            } else {
+                tail.setNextNode(node);
+            }
+            tail = node;
+        }
+        trees[index] = TreeBin.treeify((TreeEntry<K>) table[index]);
+    }
+
+    private void untreeify(int index) {
+        Entry<K> tail = null;
+        for (Entry<K> current = table[index]; current != null; current = current.getNext()) {
+            Entry<K> entry = new Entry<>(current.getKey());
+            if (tail == null) {
+                table[index] = entry;
+            } else {
+                tail.setNext(entry);
+            }
+            tail = entry;
+        }
+        trees[index] = null;
+    }
+
+    private Entry<K> findEntry(K key) {
         int index = Math.abs(key.hashCode() % table.length);
+        if (trees != null && trees[index] != null) {
+            return TreeBin.find(key, key.hashCode(), trees[index]);
+        }
         Entry<K> current = table[index];
         while (current != null) {
             if (current.getKey().equals(key)) {
-                return;
+                return current;
             }
             current = current.getNext();
         }
-        table[index] = new Entry<>(key, table[index]);
-        size++;
+        return null;
     }
 
     public void remove(K key) {
@@ -45,6 +112,19 @@ public class LinkedHashSet<K>  implements Iterable<K> {
             throw new IllegalArgumentException("The key to be removed must not be null.");
         }
         int index = Math.abs(key.hashCode() % table.length);
+        if (trees != null && trees[index] != null) {
+            TreeEntry<K> node = TreeBin.find(key, key.hashCode(), trees[index]);
+            if (node == null) {
+                throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+            }
+            trees[index] = TreeBin.remove(node, trees[index]);
+            table[index] = TreeBin.unlink(node, (TreeEntry<K>) table[index]);
+            if (chainLength(table[index], UNTREEIFY_THRESHOLD + 1) <= UNTREEIFY_THRESHOLD) {
+                untreeify(index);
+            }
+            size--;
+            return;
+        }
         Entry<K> current = table[index];
         Entry<K> previous = null;
         while (current != null) {
@@ -67,15 +147,7 @@ public class LinkedHashSet<K>  implements Iterable<K> {
         if (key == null) {
             throw new IllegalArgumentException("The key to be searched must not be null.");
         }
-        int index = Math.abs(key.hashCode() % table.length);
-        Entry<K> current = table[index];
-        while (current != null) {
-            if (current.getKey().equals(key)) {
-                return true;
-            }
-            current = current.getNext();
-        }
-        return false;
+        return findEntry(key) != null;
     }
 
     public ArrayList<K> toArrayList() {
@@ -99,14 +171,15 @@ public class LinkedHashSet<K>  implements Iterable<K> {
         if (length < size) {
             throw new IllegalArgumentException("Length should be greater than " + size + ".");
         }
-        Entry<K>[] newTable = new Entry[length];
+        Entry<K>[] previousTable = table;
+        table = new Entry[length];
+        trees = null;
         int count = 0;
-        for (Entry<K> entry: table) {
+        for (Entry<K> entry: previousTable) {
             if (entry != null) {
                 Entry<K> current = entry;
                 while (current != null) {
-                    int index = Math.abs(current.getKey().hashCode() % newTable.length);
-                    newTable[index] = new Entry<>(current.getKey(), newTable[index]);
+                    link(new Entry<>(current.getKey()));
                     count++;
                     current = current.getNext();
                 }
@@ -115,7 +188,6 @@ public class LinkedHashSet<K>  implements Iterable<K> {
                 break;
             }
         }
-        table = newTable;
     }
 
     public boolean isEmpty() {
@@ -124,6 +196,7 @@ public class LinkedHashSet<K>  implements Iterable<K> {
 
     public void clear() {
         table = new Entry[table.length];
+        trees = null;
         size = 0;
     }
 
@@ -213,6 +286,10 @@ public class LinkedHashSet<K>  implements Iterable<K> {
         return table;
     }
 
+    TreeEntry<K>[] getTrees() {
+        return trees;
+    }
+
     @Override
     public Iterator<K> iterator() {
         return toArrayList().iterator();
@@ -263,4 +340,74 @@ public class LinkedHashSet<K>  implements Iterable<K> {
             return key.hashCode();
         }
     }
+
+    // The entries of a treeified bucket keep their chain for iteration and are also the nodes of its TreeBin
+    static final class TreeEntry<K> extends Entry<K> implements TreeBin.Node<TreeEntry<K>> {
+
+        private final int hash;
+        private TreeEntry<K> previous;
+        private TreeEntry<K> left;
+        private TreeEntry<K> right;
+        private int height;
+
+        private TreeEntry(K key) {
+            super(key);
+            hash = key.hashCode();
+        }
+
+        @Override
+        public int getHash() {
+            return hash;
+        }
+
+        @Override
+        public TreeEntry<K> getNextNode() {
+            return (TreeEntry<K>) getNext();
+        }
+
+        @Override
+        public void setNextNode(TreeEntry<K> next) {
+            ((Entry<K>) this).setNext(next);
+        }
+
+        @Override
+        public TreeEntry<K> getPrevious() {
+            return previous;
+        }
+
+        @Override
+        public void setPrevious(TreeEntry<K> previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public TreeEntry<K> getLeft() {
+            return left;
+        }
+
+        @Override
+        public void setLeft(TreeEntry<K> left) {
+            this.left = left;
+        }
+
+        @Override
+        public TreeEntry<K> getRight() {
+            return right;
+        }
+
+        @Override
+        public void setRight(TreeEntry<K> right) {
+            this.right = right;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public void setHeight(int height) {
+            this.height = height;
+        }
+    }
 }
@@ -12,6 +12,8 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -457,4 +459,109 @@ public class LinkedHashSetTest {
 
         assertEquals(set.hashCode(), setZero.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test(timeout = TIMEOUT)
+    public void t27_TreeifyCollidingKeys() {
+        LinkedHashSet<Collider> colliders = new LinkedHashSet<>(4096);
+        int index = Math.abs(new Collider(0).hashCode() % colliders.getTable().length);
+        for (int i = 0; i < LinkedHashSet.TREEIFY_THRESHOLD - 1; i++) {
+            colliders.add(new Collider(i));
+        }
+        assertNull(colliders.getTrees());
+        for (int i = LinkedHashSet.TREEIFY_THRESHOLD - 1; i < 2000; i++) {
+            colliders.add(new Collider(i));
+        }
+        colliders.add(new Collider(7));
+        assertEquals(2000, colliders.size());
+        LinkedHashSet.TreeEntry<Collider> root = colliders.getTrees()[index];
+        assertNotNull(root);
+        // An AVL tree of 2000 entries is at most 1.44 * log2(2000) high
+        assertTrue(root.getHeight() <= 15);
+        for (int i = 0; i < 2000; i++) {
+            assertTrue(colliders.contains(new Collider(i)));
+        }
+        assertFalse(colliders.contains(new Collider(2000)));
+        assertEquals(2000, colliders.toArrayList().size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t28_UntreeifyOnRemove() {
+        LinkedHashSet<Collider> colliders = new LinkedHashSet<>(64);
+        int index = Math.abs(new Collider(0).hashCode() % colliders.getTable().length);
+        for (int i = 0; i < 20; i++) {
+            colliders.add(new Collider(i));
+        }
+        for (int i = 0; i < 13; i++) {
+            colliders.remove(new Collider(i));
+            assertNotNull(colliders.getTrees()[index]);
+        }
+        assertThrows(NoSuchElementException.class, () -> {
+            colliders.remove(new Collider(0));
+        });
+        colliders.remove(new Collider(13));
+        assertNull(colliders.getTrees()[index]);
+        assertFalse(colliders.getTable()[index] instanceof LinkedHashSet.TreeEntry);
+        for (int i = 14; i < 20; i++) {
+            assertTrue(colliders.contains(new Collider(i)));
+        }
+        assertEquals(6, colliders.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t29_TreeifyUnorderedKeys() {
+        LinkedHashSet<Object> mixed = new LinkedHashSet<>();
+        for (int i = 0; i < 300; i++) {
+            mixed.add(i % 2 == 0 ? new Collider(i) : new UnorderedCollider(i));
+        }
+        for (int i = 0; i < 300; i += 3) {
+            mixed.remove(i % 2 == 0 ? new Collider(i) : new UnorderedCollider(i));
+        }
+        assertEquals(200, mixed.size());
+        for (int i = 0; i < 300; i++) {
+            assertEquals(i % 3 != 0, mixed.contains(i % 2 == 0 ? new Collider(i) : new UnorderedCollider(i)));
+        }
+    }
+
+    private static class Collider implements Comparable<Collider> {
+
+        private final int id;
+
+        private Collider(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Collider other) {
+            return Integer.compare(id, other.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider && ((Collider) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    private static class UnorderedCollider {
+
+        private final int id;
+
+        private UnorderedCollider(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof UnorderedCollider && ((UnorderedCollider) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
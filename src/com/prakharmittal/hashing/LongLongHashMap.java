@@ -0,0 +1,222 @@
+package com.prakharmittal.hashing;
+
+import java.util.NoSuchElementException;
+
+public class LongLongHashMap {
+
+    private long[] keys;
+    private long[] values;
+    private long[] occupied;
+    private int size;
+
+    public static final int INITIAL_CAPACITY = 16;
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    public LongLongHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public LongLongHashMap(int initialCapacity) {
+        allocate(Hashing.tableSizeFor(initialCapacity));
+    }
+
+    public boolean put(long key, long value) {
+        if ((size + 1.0) / keys.length > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * keys.length);
+        }
+        int mask = keys.length - 1;
+        int index = Hashing.mix64(key) & mask;
+        while (isOccupied(occupied, index)) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        occupied[index >>> 6] |= 1L << index;
+        size++;
+        return true;
+    }
+
+    public long remove(long key) {
+        int index = find(key);
+        if (index < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        long output = values[index];
+        int mask = keys.length - 1;
+        int hole = index;
+        index = (index + 1) & mask;
+        while (isOccupied(occupied, index)) {
+            int home = Hashing.mix64(keys[index]) & mask;
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                hole = index;
+            }
+            index = (index + 1) & mask;
+        }
+        occupied[hole >>> 6] &= ~(1L << hole);
+        size--;
+        return output;
+    }
+
+    public long get(long key) {
+        int index = find(key);
+        if (index < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        return values[index];
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        int index = find(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    public boolean contains(long key) {
+        return find(key) >= 0;
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int index = Hashing.mix64(key) & mask;
+        while (isOccupied(occupied, index)) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    public long[] keys() {
+        long[] output = new long[size];
+        int j = 0;
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            output[j++] = keys[i];
+        }
+        return output;
+    }
+
+    public long[] values() {
+        long[] output = new long[size];
+        int j = 0;
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            output[j++] = values[i];
+        }
+        return output;
+    }
+
+    public void resizeBackingTable(int length) {
+        if (length < size || size > Hashing.tableSizeFor(length) * MAX_LOAD_FACTOR) {
+            throw new IllegalArgumentException("Length should be at least " + (int) Math.ceil(size / MAX_LOAD_FACTOR) + ".");
+        }
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        long[] oldOccupied = occupied;
+        allocate(Hashing.tableSizeFor(length));
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (isOccupied(oldOccupied, i)) {
+                int index = Hashing.mix64(oldKeys[i]) & mask;
+                while (isOccupied(occupied, index)) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                occupied[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    private void allocate(int length) {
+        keys = new long[length];
+        values = new long[length];
+        occupied = new long[(length + 63) >>> 6];
+    }
+
+    private static boolean isOccupied(long[] bitmap, int index) {
+        return (bitmap[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private int nextOccupied(int from) {
+        if (from >= keys.length) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = occupied[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == occupied.length) {
+                return -1;
+            }
+            bits = occupied[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        occupied = new long[occupied.length];
+        size = 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof LongLongHashMap) {
+            LongLongHashMap other = (LongLongHashMap) o;
+            if (size == other.size) {
+                for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+                    int index = other.find(keys[i]);
+                    if (index < 0 || other.values[index] != values[i]) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            hashCode ^= Long.hashCode(keys[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String prefix = "";
+        builder.append("[");
+        for (int i = nextOccupied(0); i >= 0; i = nextOccupied(i + 1)) {
+            builder.append(prefix);
+            prefix = ", ";
+            builder.append(keys[i]).append("=").append(values[i]);
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    long[] getKeyTable() {
+        return keys;
+    }
+
+    long[] getOccupied() {
+        return occupied;
+    }
+}
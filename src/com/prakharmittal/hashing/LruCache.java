@@ -0,0 +1,291 @@
+package com.prakharmittal.hashing;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+public class LruCache<K, V> implements Iterable<K> {
+
+    private final HashMap<K, Entry<K, V>> index;
+    private final long maximumWeight;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final BiConsumer<? super K, ? super V> listener;
+    private Entry<K, V> head;
+    private Entry<K, V> tail;
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public LruCache(int capacity) {
+        this(capacity, null);
+    }
+
+    public LruCache(int capacity, BiConsumer<? super K, ? super V> listener) {
+        this(capacity, (key, value) -> 1, listener);
+    }
+
+    public LruCache(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher,
+                    BiConsumer<? super K, ? super V> listener) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("The maximum weight must be positive.");
+        } else if (weigher == null) {
+            throw new IllegalArgumentException("The weigher must not be null.");
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.listener = listener;
+        index = new HashMap<>((int) Math.min(maximumWeight, HashMap.INITIAL_CAPACITY), true);
+    }
+
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        int entryWeight = weigher.applyAsInt(key, value);
+        if (entryWeight < 0) {
+            throw new IllegalArgumentException("The weight of an entry must not be negative.");
+        }
+        V output = null;
+        Entry<K, V> entry = index.getOrDefault(key, null);
+        if (entry == null) {
+            entry = new Entry<>(key, value, entryWeight);
+            index.put(key, entry);
+            linkHead(entry);
+        } else {
+            output = entry.value;
+            weight -= entry.weight;
+            entry.value = value;
+            entry.weight = entryWeight;
+            moveToHead(entry);
+        }
+        weight += entryWeight;
+        evict();
+        return output;
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        Entry<K, V> entry = index.getOrDefault(key, null);
+        if (entry == null) {
+            misses++;
+            throw new NoSuchElementException("The key '" + key + "' is not found in the cache.");
+        }
+        hits++;
+        moveToHead(entry);
+        return entry.value;
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        Entry<K, V> entry = index.getOrDefault(key, null);
+        if (entry == null) {
+            misses++;
+            return defaultValue;
+        }
+        hits++;
+        moveToHead(entry);
+        return entry.value;
+    }
+
+    // Looks the key up without promoting it or touching the counters
+    public boolean contains(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        return index.contains(key);
+    }
+
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be removed must not be null.");
+        }
+        Entry<K, V> entry = index.getOrDefault(key, null);
+        if (entry == null) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the cache.");
+        }
+        index.remove(key);
+        unlink(entry);
+        weight -= entry.weight;
+        return entry.value;
+    }
+
+    private void evict() {
+        while (weight > maximumWeight && tail != null) {
+            Entry<K, V> victim = tail;
+            unlink(victim);
+            index.remove(victim.key);
+            weight -= victim.weight;
+            evictions++;
+            if (listener != null) {
+                listener.accept(victim.key, victim.value);
+            }
+        }
+    }
+
+    private void linkHead(Entry<K, V> entry) {
+        entry.previous = null;
+        entry.next = head;
+        if (head == null) {
+            tail = entry;
+        } else {
+            head.previous = entry;
+        }
+        head = entry;
+    }
+
+    private void unlink(Entry<K, V> entry) {
+        if (entry.previous == null) {
+            head = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+        if (entry.next == null) {
+            tail = entry.previous;
+        } else {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+    }
+
+    private void moveToHead(Entry<K, V> entry) {
+        if (entry != head) {
+            unlink(entry);
+            linkHead(entry);
+        }
+    }
+
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    public void clear() {
+        index.clear();
+        head = tail = null;
+        weight = 0;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public long weight() {
+        return weight;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public long getHitCount() {
+        return hits;
+    }
+
+    public long getMissCount() {
+        return misses;
+    }
+
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    public double getHitRatio() {
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String prefix = "";
+        builder.append("[");
+        for (Entry<K, V> current = head; current != null; current = current.next) {
+            builder.append(prefix);
+            prefix = ", ";
+            builder.append(current.toString());
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    Entry<K, V> getHead() {
+        return head;
+    }
+
+    Entry<K, V> getTail() {
+        return tail;
+    }
+
+    // Most recently used first
+    @Override
+    public Iterator<K> iterator() {
+        return new LruCacheIterator();
+    }
+
+    static class Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private int weight;
+        private Entry<K, V> previous;
+        private Entry<K, V> next;
+
+        Entry(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public Entry<K, V> getPrevious() {
+            return previous;
+        }
+
+        public Entry<K, V> getNext() {
+            return next;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s=%s", key.toString(), value.toString());
+        }
+    }
+
+    private class LruCacheIterator implements Iterator<K> {
+
+        private Entry<K, V> current;
+
+        private LruCacheIterator() {
+            current = head;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public K next() {
+            if (hasNext()) {
+                K output = current.key;
+                current = current.next;
+                return output;
+            }
+            return null;
+        }
+    }
+}
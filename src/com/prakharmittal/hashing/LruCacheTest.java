@@ -0,0 +1,176 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class LruCacheTest {
+
+    private static final int TIMEOUT = 200;
+    private LruCache<Integer, String> cache;
+    private StringBuilder evicted;
+
+    @Before
+    public void setUp() {
+        evicted = new StringBuilder();
+        cache = new LruCache<>(3, (key, value) -> evicted.append(key).append("=").append(value).append(" "));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, cache.size());
+        assertTrue(cache.isEmpty());
+        assertEquals(3, cache.getMaximumWeight());
+        assertNull(cache.getHead());
+        assertNull(cache.getTail());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LruCache<Integer, String>(0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LruCache<Integer, String>(10, null, null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_PutNullKeyValue() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            cache.put(null, "A");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            cache.put(0, null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_PutAddReplace() {
+        assertNull(cache.put(0, "A"));
+        assertNull(cache.put(1, "B"));
+        assertEquals("[1=B, 0=A]", cache.toString());
+
+        assertEquals("A", cache.put(0, "AA"));
+        assertEquals(2, cache.size());
+        assertEquals("[0=AA, 1=B]", cache.toString());
+        assertEquals(Integer.valueOf(0), cache.getHead().getKey());
+        assertEquals(Integer.valueOf(1), cache.getTail().getKey());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_EvictLeastRecentlyUsed() {
+        assertNull(cache.put(0, "A"));
+        assertNull(cache.put(1, "B"));
+        assertNull(cache.put(2, "C"));
+        assertEquals("A", cache.get(0));
+        assertNull(cache.put(3, "D"));
+
+        assertEquals(3, cache.size());
+        assertFalse(cache.contains(1));
+        assertEquals("[3=D, 0=A, 2=C]", cache.toString());
+        assertEquals("1=B ", evicted.toString());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_GetMiss() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            cache.get(null);
+        });
+        assertNull(cache.put(0, "A"));
+        assertThrows(NoSuchElementException.class, () -> {
+            cache.get(1);
+        });
+        assertEquals("X", cache.getOrDefault(1, "X"));
+        assertEquals("A", cache.getOrDefault(0, "X"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3, cache.getHitRatio(), 1e-9);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_ContainsDoesNotPromote() {
+        assertNull(cache.put(0, "A"));
+        assertNull(cache.put(1, "B"));
+        assertNull(cache.put(2, "C"));
+        assertTrue(cache.contains(0));
+        assertNull(cache.put(3, "D"));
+        assertFalse(cache.contains(0));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_Remove() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            cache.remove(null);
+        });
+        assertNull(cache.put(0, "A"));
+        assertNull(cache.put(1, "B"));
+        assertNull(cache.put(2, "C"));
+        assertEquals("B", cache.remove(1));
+        assertEquals("[2=C, 0=A]", cache.toString());
+        assertEquals("C", cache.remove(2));
+        assertEquals("A", cache.remove(0));
+        assertTrue(cache.isEmpty());
+        assertNull(cache.getHead());
+        assertNull(cache.getTail());
+        assertThrows(NoSuchElementException.class, () -> {
+            cache.remove(0);
+        });
+        assertEquals("", evicted.toString());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_WeightBound() {
+        LruCache<String, String> weighted = new LruCache<>(10, (key, value) -> value.length(), null);
+        assertNull(weighted.put("a", "xxxx"));
+        assertNull(weighted.put("b", "xxxx"));
+        assertEquals(8, weighted.weight());
+        assertNull(weighted.put("c", "xxx"));
+        assertFalse(weighted.contains("a"));
+        assertEquals(7, weighted.weight());
+
+        assertEquals("xxxx", weighted.put("b", "x"));
+        assertEquals(4, weighted.weight());
+        assertNull(weighted.put("d", "xxxxxxxxxxx"));
+        assertTrue(weighted.isEmpty());
+        assertEquals(0, weighted.weight());
+        assertEquals(4, weighted.getEvictionCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t09_IteratorMostRecentFirst() {
+        assertNull(cache.put(0, "A"));
+        assertNull(cache.put(1, "B"));
+        assertNull(cache.put(2, "C"));
+        assertEquals("A", cache.get(0));
+        StringBuilder keys = new StringBuilder();
+        for (Integer key: cache) {
+            keys.append(key);
+        }
+        assertEquals("021", keys.toString());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t10_Clear() {
+        for (int i = 0; i < 10; i++) {
+            assertNull(cache.put(i, "V" + i));
+        }
+        assertEquals(7, cache.getEvictionCount());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+        assertEquals("[]", cache.toString());
+        assertNull(cache.put(0, "A"));
+        assertEquals("A", cache.get(0));
+    }
+}
@@ -0,0 +1,156 @@
+package com.prakharmittal.hashing;
+
+import java.util.Iterator;
+
+// Views read the live map on every call, so they reflect later changes and copy nothing
+final class MapViews {
+
+    private MapViews() {
+    }
+
+    interface MapEntry<K, V> {
+
+        K getKey();
+
+        V getValue();
+    }
+
+    interface Source<K, V, E extends MapEntry<K, V>> extends Iterable<E> {
+
+        int size();
+
+        boolean contains(K key);
+
+        V getOrDefault(K key, V defaultValue);
+    }
+
+    static class EntryView<K, V, E extends MapEntry<K, V>> implements Iterable<E> {
+
+        private final Source<K, V, E> map;
+
+        EntryView(Source<K, V, E> map) {
+            this.map = map;
+        }
+
+        public boolean contains(E entry) {
+            if (entry == null) {
+                throw new IllegalArgumentException("The entry to be searched must not be null.");
+            }
+            V value = map.getOrDefault(entry.getKey(), null);
+            return value != null && value.equals(entry.getValue());
+        }
+
+        public boolean isEmpty() {
+            return map.size() == 0;
+        }
+
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return map.iterator();
+        }
+    }
+
+    static class KeyView<K, V> implements Iterable<K> {
+
+        private final Source<K, V, ? extends MapEntry<K, V>> map;
+
+        KeyView(Source<K, V, ? extends MapEntry<K, V>> map) {
+            this.map = map;
+        }
+
+        public boolean contains(K key) {
+            return map.contains(key);
+        }
+
+        public boolean isEmpty() {
+            return map.size() == 0;
+        }
+
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            return new KeyIterator<>(map.iterator());
+        }
+    }
+
+    static class ValueView<K, V> implements Iterable<V> {
+
+        private final Source<K, V, ? extends MapEntry<K, V>> map;
+
+        ValueView(Source<K, V, ? extends MapEntry<K, V>> map) {
+            this.map = map;
+        }
+
+        public boolean contains(V value) {
+            if (value == null) {
+                throw new IllegalArgumentException("The value to be searched must not be null.");
+            }
+            for (MapEntry<K, V> entry: map) {
+                if (entry.getValue().equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public boolean isEmpty() {
+            return map.size() == 0;
+        }
+
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            return new ValueIterator<>(map.iterator());
+        }
+    }
+
+    private static class KeyIterator<K, V> implements Iterator<K> {
+
+        private final Iterator<? extends MapEntry<K, V>> entries;
+
+        private KeyIterator(Iterator<? extends MapEntry<K, V>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return entries.hasNext();
+        }
+
+        @Override
+        public K next() {
+            MapEntry<K, V> entry = entries.next();
+            return entry == null ? null : entry.getKey();
+        }
+    }
+
+    private static class ValueIterator<K, V> implements Iterator<V> {
+
+        private final Iterator<? extends MapEntry<K, V>> entries;
+
+        private ValueIterator(Iterator<? extends MapEntry<K, V>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return entries.hasNext();
+        }
+
+        @Override
+        public V next() {
+            MapEntry<K, V> entry = entries.next();
+            return entry == null ? null : entry.getValue();
+        }
+    }
+}
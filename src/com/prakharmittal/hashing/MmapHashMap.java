@@ -0,0 +1,430 @@
+package com.prakharmittal.hashing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// An open-addressing table of byte[] keys and values that lives in a memory-mapped file, so reopening the file
+// serves lookups at once instead of rebuilding the map. The file is a header, then the slots, then the records
+public class MmapHashMap implements Closeable {
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer[] segments;
+    private long length;
+    private int segmentBits;
+    private long k0;
+    private long k1;
+    private int slotCount;
+    private int size;
+    private long dataEnd;
+
+    public static final int INITIAL_CAPACITY = 16;
+    public static final double MAX_LOAD_FACTOR = 0.67;
+    public static final int SEGMENT_BITS = 30;
+
+    private static final int MAGIC = 0x4D484D31;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    // Header layout
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int K0_OFFSET = 8;
+    private static final int K1_OFFSET = 16;
+    private static final int SLOT_COUNT_OFFSET = 24;
+    private static final int SIZE_OFFSET = 28;
+    private static final int DATA_END_OFFSET = 32;
+    private static final int SEGMENT_BITS_OFFSET = 40;
+
+    public MmapHashMap(Path path) throws IOException {
+        this(path, INITIAL_CAPACITY);
+    }
+
+    public MmapHashMap(Path path, int initialCapacity) throws IOException {
+        this(path, initialCapacity, SEGMENT_BITS);
+    }
+
+    // Smaller segments only exist so that tests can cross segment boundaries without gigabyte files
+    MmapHashMap(Path path, int initialCapacity, int segmentBits) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("The path must not be null.");
+        } else if (segmentBits < 12 || segmentBits > SEGMENT_BITS) {
+            throw new IllegalArgumentException("The segment bits must be between 12 and " + SEGMENT_BITS + ".");
+        }
+        this.path = path;
+        channel = open(path);
+        if (channel.size() == 0) {
+            create(Hashing.tableSizeFor((int) Math.ceil(Math.max(1, initialCapacity) / MAX_LOAD_FACTOR)),
+                    segmentBits, Hashing.randomSeed(), Hashing.randomSeed());
+        } else {
+            try {
+                load();
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+    }
+
+    private MmapHashMap(Path path, int slots, int segmentBits, long seed0, long seed1) throws IOException {
+        this.path = path;
+        channel = open(path);
+        try {
+            create(slots, segmentBits, seed0, seed1);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private void create(int slots, int bits, long seed0, long seed1) throws IOException {
+        segmentBits = bits;
+        slotCount = slots;
+        k0 = seed0;
+        k1 = seed1;
+        size = 0;
+        dataEnd = HEADER_SIZE + (long) slotCount * SLOT_SIZE;
+        segments = new MappedByteBuffer[0];
+        length = 0;
+        ensureLength(dataEnd);
+        // A freshly grown file reads as zeros, which is an empty slot everywhere
+        writeInt(VERSION_OFFSET, VERSION);
+        writeLong(K0_OFFSET, k0);
+        writeLong(K1_OFFSET, k1);
+        writeInt(SLOT_COUNT_OFFSET, slotCount);
+        writeInt(SIZE_OFFSET, size);
+        writeLong(DATA_END_OFFSET, dataEnd);
+        writeInt(SEGMENT_BITS_OFFSET, segmentBits);
+        writeInt(MAGIC_OFFSET, MAGIC);
+    }
+
+    private void load() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        if (channel.size() < HEADER_SIZE || header.getInt(MAGIC_OFFSET) != MAGIC
+                || header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("The file '" + path + "' is not a hash map file.");
+        }
+        segmentBits = header.getInt(SEGMENT_BITS_OFFSET);
+        if (segmentBits < 12 || segmentBits > SEGMENT_BITS) {
+            throw new IOException("The file '" + path + "' has an invalid segment size.");
+        }
+        k0 = header.getLong(K0_OFFSET);
+        k1 = header.getLong(K1_OFFSET);
+        slotCount = header.getInt(SLOT_COUNT_OFFSET);
+        size = header.getInt(SIZE_OFFSET);
+        dataEnd = header.getLong(DATA_END_OFFSET);
+        // A truncated or half-written file is refused here rather than failing on some later lookup
+        if (slotCount <= 0 || Integer.bitCount(slotCount) != 1) {
+            throw new IOException("The file '" + path + "' has an invalid slot count.");
+        } else if (size < 0 || size > slotCount * MAX_LOAD_FACTOR) {
+            throw new IOException("The file '" + path + "' has an invalid size.");
+        } else if (dataEnd < slotPosition(slotCount) || dataEnd > channel.size()) {
+            throw new IOException("The file '" + path + "' is truncated.");
+        }
+        segments = new MappedByteBuffer[0];
+        length = 0;
+        ensureLength(channel.size());
+    }
+
+    public boolean put(byte[] key, byte[] value) throws IOException {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        checkOpen();
+        long hash = Hashing.sipHash13(k0, k1, key);
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            long record = readLong(slotPosition(slot));
+            // A value of the same length is overwritten in place, otherwise the old record becomes garbage
+            if (readInt(record + 4) == value.length) {
+                write(record + RECORD_HEADER_SIZE + key.length, value);
+            } else {
+                writeLong(slotPosition(slot), append(key, value));
+            }
+            return false;
+        }
+        if (size + 1 > slotCount * MAX_LOAD_FACTOR) {
+            rehash(2 * slotCount);
+        }
+        slot = (int) hash & (slotCount - 1);
+        while (readLong(slotPosition(slot)) != 0) {
+            slot = (slot + 1) & (slotCount - 1);
+        }
+        long record = append(key, value);
+        writeLong(slotPosition(slot) + 8, hash);
+        writeLong(slotPosition(slot), record);
+        writeInt(SIZE_OFFSET, ++size);
+        return true;
+    }
+
+    public void remove(byte[] key) throws IOException {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be removed must not be null.");
+        }
+        checkOpen();
+        int slot = find(key, Hashing.sipHash13(k0, k1, key));
+        if (slot < 0) {
+            throw new NoSuchElementException("The key '" + Arrays.toString(key) + "' is not found in the hashmap.");
+        }
+        shiftBackward(slot);
+        writeInt(SIZE_OFFSET, --size);
+    }
+
+    // The value is a read-only view of the file, valid until the key is next written
+    public ByteBuffer get(byte[] key) {
+        ByteBuffer output = getOrDefault(key, null);
+        if (output == null) {
+            throw new NoSuchElementException("The key '" + Arrays.toString(key) + "' is not found in the hashmap.");
+        }
+        return output;
+    }
+
+    public ByteBuffer getOrDefault(byte[] key, ByteBuffer defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        checkOpen();
+        int slot = find(key, Hashing.sipHash13(k0, k1, key));
+        if (slot < 0) {
+            return defaultValue;
+        }
+        long record = readLong(slotPosition(slot));
+        ByteBuffer output = segments[(int) (record >>> segmentBits)].duplicate();
+        int start = offsetIn(record) + RECORD_HEADER_SIZE + key.length;
+        output.limit(start + readInt(record + 4)).position(start);
+        return output.slice().asReadOnlyBuffer();
+    }
+
+    public boolean contains(byte[] key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        checkOpen();
+        return find(key, Hashing.sipHash13(k0, k1, key)) >= 0;
+    }
+
+    // Returns the slot holding the key, or -1
+    private int find(byte[] key, long hash) {
+        int slot = (int) hash & (slotCount - 1);
+        long record = readLong(slotPosition(slot));
+        while (record != 0) {
+            if (readLong(slotPosition(slot) + 8) == hash && keyEquals(record, key)) {
+                return slot;
+            }
+            slot = (slot + 1) & (slotCount - 1);
+            record = readLong(slotPosition(slot));
+        }
+        return -1;
+    }
+
+    private boolean keyEquals(long record, byte[] key) {
+        if (readInt(record) != key.length) {
+            return false;
+        }
+        MappedByteBuffer segment = segments[(int) (record >>> segmentBits)];
+        int start = offsetIn(record) + RECORD_HEADER_SIZE;
+        for (int i = 0; i < key.length; i++) {
+            if (segment.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void shiftBackward(int hole) {
+        int mask = slotCount - 1;
+        int index = (hole + 1) & mask;
+        while (readLong(slotPosition(index)) != 0) {
+            long hash = readLong(slotPosition(index) + 8);
+            int home = (int) hash & mask;
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                writeLong(slotPosition(hole), readLong(slotPosition(index)));
+                writeLong(slotPosition(hole) + 8, hash);
+                hole = index;
+            }
+            index = (index + 1) & mask;
+        }
+        writeLong(slotPosition(hole), 0);
+        writeLong(slotPosition(hole) + 8, 0);
+    }
+
+    // Records never straddle two segments, so each one can be read through a single mapped buffer
+    private long append(byte[] key, byte[] value) throws IOException {
+        long recordSize = (long) RECORD_HEADER_SIZE + key.length + value.length;
+        if (recordSize > 1L << segmentBits) {
+            throw new IllegalArgumentException("The record of " + recordSize + " bytes is larger than a segment.");
+        }
+        long record = dataEnd;
+        if ((record >>> segmentBits) != ((record + recordSize - 1) >>> segmentBits)) {
+            record = ((record >>> segmentBits) + 1) << segmentBits;
+        }
+        ensureLength(record + recordSize);
+        writeInt(record, key.length);
+        writeInt(record + 4, value.length);
+        write(record + RECORD_HEADER_SIZE, key);
+        write(record + RECORD_HEADER_SIZE + key.length, value);
+        dataEnd = record + recordSize;
+        writeLong(DATA_END_OFFSET, dataEnd);
+        return record;
+    }
+
+    // Drops the records left behind by overwrites and removals
+    public void compact() throws IOException {
+        checkOpen();
+        rehash(slotCount);
+    }
+
+    // Copies the live records into a new file beside this one, which then atomically replaces it
+    private void rehash(int slots) throws IOException {
+        Path next = path.resolveSibling(path.getFileName() + ".rehash");
+        Files.deleteIfExists(next);
+        MmapHashMap target = null;
+        try {
+            target = new MmapHashMap(next, slots, segmentBits, k0, k1);
+            for (int slot = 0; slot < slotCount; slot++) {
+                long record = readLong(slotPosition(slot));
+                if (record != 0) {
+                    byte[] key = read(record + RECORD_HEADER_SIZE, readInt(record));
+                    byte[] value = read(record + RECORD_HEADER_SIZE + key.length, readInt(record + 4));
+                    target.put(key, value);
+                }
+            }
+            target.force();
+            Files.move(next, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            // This map is untouched, so dropping the partial copy leaves everything as it was
+            try {
+                if (target != null) {
+                    target.channel.close();
+                }
+                Files.deleteIfExists(next);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        channel.close();
+        channel = target.channel;
+        segments = target.segments;
+        length = target.length;
+        slotCount = target.slotCount;
+        size = target.size;
+        dataEnd = target.dataEnd;
+    }
+
+    // Grows the file by doubling and maps any segment that is new or has grown
+    private void ensureLength(long required) throws IOException {
+        if (required <= length) {
+            return;
+        }
+        long newLength = Math.max(required, Math.max(2 * length, 1L << 12));
+        int count = (int) (((newLength - 1) >>> segmentBits) + 1);
+        MappedByteBuffer[] mapped = Arrays.copyOf(segments, count);
+        for (int i = Math.max(0, segments.length - 1); i < count; i++) {
+            long start = (long) i << segmentBits;
+            mapped[i] = channel.map(FileChannel.MapMode.READ_WRITE, start,
+                    Math.min(1L << segmentBits, newLength - start));
+        }
+        segments = mapped;
+        length = newLength;
+    }
+
+    public void force() throws IOException {
+        checkOpen();
+        for (MappedByteBuffer segment: segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            force();
+            channel.close();
+            channel = null;
+            segments = null;
+        }
+    }
+
+    private void checkOpen() {
+        if (channel == null) {
+            throw new IllegalStateException("The hashmap has been closed.");
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int getSlotCount() {
+        return slotCount;
+    }
+
+    long getDataEnd() {
+        return dataEnd;
+    }
+
+    int getSegmentCount() {
+        return segments.length;
+    }
+
+    private long slotPosition(int slot) {
+        return HEADER_SIZE + (long) slot * SLOT_SIZE;
+    }
+
+    private int offsetIn(long position) {
+        return (int) (position & ((1L << segmentBits) - 1));
+    }
+
+    private int readInt(long position) {
+        return segments[(int) (position >>> segmentBits)].getInt(offsetIn(position));
+    }
+
+    private long readLong(long position) {
+        return segments[(int) (position >>> segmentBits)].getLong(offsetIn(position));
+    }
+
+    private byte[] read(long position, int count) {
+        byte[] output = new byte[count];
+        ByteBuffer segment = segments[(int) (position >>> segmentBits)].duplicate();
+        segment.position(offsetIn(position));
+        segment.get(output);
+        return output;
+    }
+
+    private void writeInt(long position, int value) {
+        segments[(int) (position >>> segmentBits)].putInt(offsetIn(position), value);
+    }
+
+    private void writeLong(long position, long value) {
+        segments[(int) (position >>> segmentBits)].putLong(offsetIn(position), value);
+    }
+
+    private void write(long position, byte[] data) {
+        ByteBuffer segment = segments[(int) (position >>> segmentBits)].duplicate();
+        segment.position(offsetIn(position));
+        segment.put(data);
+    }
+}
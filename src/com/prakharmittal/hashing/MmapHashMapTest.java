@@ -0,0 +1,219 @@
+package com.prakharmittal.hashing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class MmapHashMapTest {
+
+    private static final int TIMEOUT = 2000;
+    private Path directory;
+    private Path file;
+    private MmapHashMap map;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("mmap");
+        file = directory.resolve("map.bin");
+        map = new MmapHashMap(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        map.close();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory)) {
+            for (Path path: paths) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_PutGetContains() throws IOException {
+        assertTrue(map.isEmpty());
+        assertTrue(map.put(bytes("one"), bytes("1")));
+        assertTrue(map.put(bytes("two"), bytes("22")));
+        assertFalse(map.put(bytes("one"), bytes("3")));
+        assertEquals(2, map.size());
+        assertEquals("3", string(map.get(bytes("one"))));
+        assertEquals("22", string(map.get(bytes("two"))));
+        assertTrue(map.contains(bytes("two")));
+        assertFalse(map.contains(bytes("three")));
+        assertNull(map.getOrDefault(bytes("three"), null));
+        assertThrows(NoSuchElementException.class, () -> {
+            map.get(bytes("three"));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(null, bytes("1"));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(bytes("one"), null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.get(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_ValuesAreReadOnlyViews() throws IOException {
+        map.put(bytes("key"), bytes("value"));
+        ByteBuffer value = map.get(bytes("key"));
+        assertTrue(value.isReadOnly());
+        assertEquals(5, value.remaining());
+        assertEquals(0, value.position());
+        map.put(new byte[0], new byte[0]);
+        assertEquals(0, map.get(new byte[0]).remaining());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_OverwriteInPlace() throws IOException {
+        map.put(bytes("key"), bytes("aaaa"));
+        long end = map.getDataEnd();
+        map.put(bytes("key"), bytes("bbbb"));
+        assertEquals(end, map.getDataEnd());
+        map.put(bytes("key"), bytes("ccccc"));
+        assertTrue(map.getDataEnd() > end);
+        assertEquals("ccccc", string(map.get(bytes("key"))));
+        map.compact();
+        assertEquals(end + 1, map.getDataEnd());
+        assertEquals("ccccc", string(map.get(bytes("key"))));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_RemoveShiftsBackward() throws IOException {
+        for (int i = 0; i < 500; i++) {
+            map.put(bytes("K" + i), bytes("V" + i));
+        }
+        for (int i = 0; i < 500; i += 2) {
+            map.remove(bytes("K" + i));
+        }
+        assertThrows(NoSuchElementException.class, () -> {
+            map.remove(bytes("K0"));
+        });
+        assertEquals(250, map.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i % 2 == 1, map.contains(bytes("K" + i)));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_ReopenServesExistingFile() throws IOException {
+        for (int i = 0; i < 2000; i++) {
+            map.put(bytes("K" + i), bytes("V" + i));
+        }
+        map.remove(bytes("K7"));
+        int slots = map.getSlotCount();
+        map.close();
+        assertThrows(IllegalStateException.class, () -> {
+            map.get(bytes("K1"));
+        });
+
+        map = new MmapHashMap(file);
+        assertEquals(1999, map.size());
+        assertEquals(slots, map.getSlotCount());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i == 7 ? null : "V" + i, string(map.getOrDefault(bytes("K" + i), null)));
+        }
+        map.put(bytes("K7"), bytes("back"));
+        assertEquals("back", string(map.get(bytes("K7"))));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_SmallSegments() throws IOException {
+        map.close();
+        Files.delete(file);
+        map = new MmapHashMap(file, 4, 12);
+        byte[] large = new byte[3000];
+        for (int i = 0; i < 200; i++) {
+            large[0] = (byte) i;
+            map.put(bytes("K" + i), large);
+        }
+        assertTrue(map.getSegmentCount() > 100);
+        map.close();
+        map = new MmapHashMap(file);
+        for (int i = 0; i < 200; i++) {
+            ByteBuffer value = map.get(bytes("K" + i));
+            assertEquals(3000, value.remaining());
+            assertEquals((byte) i, value.get(0));
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(bytes("huge"), new byte[5000]);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_RejectsForeignFile() throws IOException {
+        Path other = directory.resolve("other.bin");
+        Files.write(other, bytes("not a hash map, just some text"));
+        assertThrows(IOException.class, () -> {
+            new MmapHashMap(other);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_RejectsCorruptHeader() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            map.put(bytes("key" + i), bytes("value" + i));
+        }
+        map.close();
+        byte[] original = Files.readAllBytes(file);
+
+        // The slot count lives at offset 24, the size at 28 and the end of the data at 32
+        int[] badSlotCounts = {0, -64, 48};
+        for (int slotCount: badSlotCounts) {
+            Files.write(file, ByteBuffer.wrap(original.clone()).putInt(24, slotCount).array());
+            assertThrows(IOException.class, () -> {
+                new MmapHashMap(file);
+            });
+        }
+        Files.write(file, ByteBuffer.wrap(original.clone()).putInt(28, 1 << 20).array());
+        assertThrows(IOException.class, () -> {
+            new MmapHashMap(file);
+        });
+        Files.write(file, ByteBuffer.wrap(original.clone()).putLong(32, original.length + 1L).array());
+        assertThrows(IOException.class, () -> {
+            new MmapHashMap(file);
+        });
+        Files.write(file, Arrays.copyOf(original, 100));
+        assertThrows(IOException.class, () -> {
+            new MmapHashMap(file);
+        });
+
+        Files.write(file, original);
+        map = new MmapHashMap(file);
+        assertEquals("value7", string(map.get(bytes("key7"))));
+    }
+
+    private static byte[] bytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        byte[] output = new byte[buffer.remaining()];
+        buffer.duplicate().get(output);
+        return new String(output, StandardCharsets.UTF_8);
+    }
+}
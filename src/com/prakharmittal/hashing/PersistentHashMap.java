@@ -0,0 +1,553 @@
+package com.prakharmittal.hashing;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// A hash array mapped trie, every update copies only the O(log32 n) nodes on the path to the key
+public final class PersistentHashMap<K, V> implements Iterable<PersistentHashMap.Entry<K, V>> {
+
+    private static final PersistentHashMap EMPTY = new PersistentHashMap<>(null, 0);
+
+    static final int BITS = 5;
+    static final int WIDTH = 1 << BITS;
+    static final int MAX_DEPTH = 8;
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public PersistentHashMap<K, V> assoc(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        boolean[] added = new boolean[1];
+        Node newRoot = (root == null ? BitmapNode.EMPTY : root)
+                .assoc(null, 0, Hashing.mix(key.hashCode()), key, value, added);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    // Dissociating a missing key returns the same map, so callers can snapshot without checking first
+    public PersistentHashMap<K, V> dissoc(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be removed must not be null.");
+        }
+        if (root == null) {
+            return this;
+        }
+        Node newRoot = root.dissoc(null, 0, Hashing.mix(key.hashCode()), key);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        Entry<K, V> entry = root == null ? null : root.find(0, Hashing.mix(key.hashCode()), key);
+        if (entry == null) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        return entry.value;
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        Entry<K, V> entry = root == null ? null : root.find(0, Hashing.mix(key.hashCode()), key);
+        return entry == null ? defaultValue : entry.value;
+    }
+
+    public boolean contains(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        return root != null && root.find(0, Hashing.mix(key.hashCode()), key) != null;
+    }
+
+    public Transient<K, V> asTransient() {
+        return new Transient<>(root, size);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof PersistentHashMap<?, ?>) {
+            PersistentHashMap<?, ?> other = (PersistentHashMap<?, ?>) o;
+            if (size == other.size) {
+                for (Entry<K, V> entry: this) {
+                    Entry<?, ?> found = other.root.find(0, entry.hash, entry.key);
+                    if (found == null || !found.value.equals(entry.value)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (Entry<K, V> entry: this) {
+            hashCode ^= entry.key.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String prefix = "";
+        builder.append("[");
+        for (Entry<K, V> entry: this) {
+            builder.append(prefix);
+            prefix = ", ";
+            builder.append(entry.toString());
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    Node getRoot() {
+        return root;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new PersistentHashMapIterator<>(root);
+    }
+
+    // Edits made through one transient own the nodes it created, so those are updated in place
+    public static final class Transient<K, V> {
+
+        private Object edit = new Object();
+        private Node root;
+        private int size;
+
+        private Transient(Node root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        public Transient<K, V> put(K key, V value) {
+            ensureEditable();
+            if (key == null) {
+                throw new IllegalArgumentException("The key to be added must not be null.");
+            } else if (value == null) {
+                throw new IllegalArgumentException("The value to be added must not be null.");
+            }
+            boolean[] added = new boolean[1];
+            root = (root == null ? BitmapNode.EMPTY : root)
+                    .assoc(edit, 0, Hashing.mix(key.hashCode()), key, value, added);
+            if (added[0]) {
+                size++;
+            }
+            return this;
+        }
+
+        public Transient<K, V> remove(K key) {
+            ensureEditable();
+            if (key == null) {
+                throw new IllegalArgumentException("The key to be removed must not be null.");
+            }
+            int hash = Hashing.mix(key.hashCode());
+            // Nodes owned by this transient shrink in place, so the root alone cannot show whether anything was removed
+            if (root != null && root.find(0, hash, key) != null) {
+                root = root.dissoc(edit, 0, hash, key);
+                size--;
+            }
+            return this;
+        }
+
+        public V getOrDefault(K key, V defaultValue) {
+            ensureEditable();
+            if (key == null) {
+                throw new IllegalArgumentException("The key to be searched must not be null.");
+            }
+            Entry<K, V> entry = root == null ? null : root.find(0, Hashing.mix(key.hashCode()), key);
+            return entry == null ? defaultValue : entry.value;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // Seals the transient, the nodes it built become shared and immutable from here on
+        public PersistentHashMap<K, V> persistent() {
+            ensureEditable();
+            edit = null;
+            return size == 0 ? empty() : new PersistentHashMap<>(root, size);
+        }
+
+        private void ensureEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("The transient has already been made persistent.");
+            }
+        }
+    }
+
+    public static final class Entry<K, V> {
+
+        private final int hash;
+        private final K key;
+        private final V value;
+
+        private Entry(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s=%s", key.toString(), value.toString());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof Entry<?, ?>) {
+                Entry<?, ?> e = (Entry<?, ?>) o;
+                return e.getKey().equals(key) && e.getValue().equals(value);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+    }
+
+    abstract static class Node {
+
+        Object edit;
+
+        Node(Object edit) {
+            this.edit = edit;
+        }
+
+        abstract Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added);
+
+        // Returns this if the key is absent and null once the node is empty
+        abstract Node dissoc(Object edit, int shift, int hash, Object key);
+
+        abstract <K, V> Entry<K, V> find(int shift, int hash, Object key);
+
+        abstract Object[] slots();
+
+        abstract int slotCount();
+
+        boolean isEditable(Object edit) {
+            return edit != null && this.edit == edit;
+        }
+
+        // A node left holding one entry and no children can be replaced by that entry in its parent
+        Entry<?, ?> soleEntry() {
+            return slotCount() == 1 && slots()[0] instanceof Entry ? (Entry<?, ?>) slots()[0] : null;
+        }
+    }
+
+    static final class BitmapNode extends Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        private int bitmap;
+        private Object[] slots;
+
+        BitmapNode(Object edit, int bitmap, Object[] slots) {
+            super(edit);
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @Override
+        Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = 1 << ((hash >>> shift) & (WIDTH - 1));
+            int index = Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) == 0) {
+                added[0] = true;
+                Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = new Entry<>(hash, key, value);
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                if (isEditable(edit)) {
+                    bitmap |= bit;
+                    slots = newSlots;
+                    return this;
+                }
+                return new BitmapNode(edit, bitmap | bit, newSlots);
+            }
+            Object slot = slots[index];
+            if (slot instanceof Node) {
+                Node child = (Node) slot;
+                Node newChild = child.assoc(edit, shift + BITS, hash, key, value, added);
+                return newChild == child ? this : withSlot(edit, index, newChild);
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) slot;
+            if (entry.key.equals(key)) {
+                return entry.value == value ? this : withSlot(edit, index, new Entry<>(hash, key, value));
+            }
+            added[0] = true;
+            return withSlot(edit, index, split(edit, shift + BITS, entry, new Entry<>(hash, key, value)));
+        }
+
+        @Override
+        Node dissoc(Object edit, int shift, int hash, Object key) {
+            int bit = 1 << ((hash >>> shift) & (WIDTH - 1));
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = Integer.bitCount(bitmap & (bit - 1));
+            Object slot = slots[index];
+            if (slot instanceof Node) {
+                Node child = (Node) slot;
+                Node newChild = child.dissoc(edit, shift + BITS, hash, key);
+                if (newChild == child) {
+                    return this;
+                } else if (newChild == null) {
+                    return without(edit, bit, index);
+                }
+                Entry<?, ?> sole = newChild.soleEntry();
+                return withSlot(edit, index, sole == null ? newChild : sole);
+            }
+            if (!((Entry<?, ?>) slot).key.equals(key)) {
+                return this;
+            }
+            return without(edit, bit, index);
+        }
+
+        @Override
+        <K, V> Entry<K, V> find(int shift, int hash, Object key) {
+            int bit = 1 << ((hash >>> shift) & (WIDTH - 1));
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[Integer.bitCount(bitmap & (bit - 1))];
+            if (slot instanceof Node) {
+                return ((Node) slot).find(shift + BITS, hash, key);
+            }
+            Entry<K, V> entry = (Entry<K, V>) slot;
+            return entry.key.equals(key) ? entry : null;
+        }
+
+        private Node withSlot(Object edit, int index, Object slot) {
+            if (isEditable(edit)) {
+                slots[index] = slot;
+                return this;
+            }
+            Object[] newSlots = slots.clone();
+            newSlots[index] = slot;
+            return new BitmapNode(edit, bitmap, newSlots);
+        }
+
+        private Node without(Object edit, int bit, int index) {
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+            if (isEditable(edit)) {
+                bitmap &= ~bit;
+                slots = newSlots;
+                return this;
+            }
+            return new BitmapNode(edit, bitmap & ~bit, newSlots);
+        }
+
+        @Override
+        Object[] slots() {
+            return slots;
+        }
+
+        @Override
+        int slotCount() {
+            return slots.length;
+        }
+
+        int getBitmap() {
+            return bitmap;
+        }
+    }
+
+    // Holds entries whose full 32-bit hashes are equal, so no deeper level could tell them apart
+    static final class CollisionNode extends Node {
+
+        private final int hash;
+        private Object[] entries;
+
+        CollisionNode(Object edit, int hash, Object[] entries) {
+            super(edit);
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        @Override
+        Node assoc(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                BitmapNode wrapper = new BitmapNode(edit, 1 << ((this.hash >>> shift) & (WIDTH - 1)),
+                        new Object[] {this});
+                return wrapper.assoc(edit, shift, hash, key, value, added);
+            }
+            for (int i = 0; i < entries.length; i++) {
+                Entry<?, ?> entry = (Entry<?, ?>) entries[i];
+                if (entry.key.equals(key)) {
+                    if (entry.value == value) {
+                        return this;
+                    }
+                    Object[] newEntries = isEditable(edit) ? entries : entries.clone();
+                    newEntries[i] = new Entry<>(hash, key, value);
+                    return isEditable(edit) ? this : new CollisionNode(edit, hash, newEntries);
+                }
+            }
+            added[0] = true;
+            Object[] newEntries = new Object[entries.length + 1];
+            System.arraycopy(entries, 0, newEntries, 0, entries.length);
+            newEntries[entries.length] = new Entry<>(hash, key, value);
+            if (isEditable(edit)) {
+                entries = newEntries;
+                return this;
+            }
+            return new CollisionNode(edit, hash, newEntries);
+        }
+
+        @Override
+        Node dissoc(Object edit, int shift, int hash, Object key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (((Entry<?, ?>) entries[i]).key.equals(key)) {
+                    if (entries.length == 1) {
+                        return null;
+                    }
+                    Object[] newEntries = new Object[entries.length - 1];
+                    System.arraycopy(entries, 0, newEntries, 0, i);
+                    System.arraycopy(entries, i + 1, newEntries, i, entries.length - i - 1);
+                    if (isEditable(edit)) {
+                        entries = newEntries;
+                        return this;
+                    }
+                    return new CollisionNode(edit, hash, newEntries);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        <K, V> Entry<K, V> find(int shift, int hash, Object key) {
+            if (hash != this.hash) {
+                return null;
+            }
+            for (Object slot: entries) {
+                Entry<K, V> entry = (Entry<K, V>) slot;
+                if (entry.key.equals(key)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Object[] slots() {
+            return entries;
+        }
+
+        @Override
+        int slotCount() {
+            return entries.length;
+        }
+    }
+
+    private static Node split(Object edit, int shift, Entry<?, ?> entry1, Entry<?, ?> entry2) {
+        if (entry1.hash == entry2.hash) {
+            return new CollisionNode(edit, entry1.hash, new Object[] {entry1, entry2});
+        }
+        int fragment1 = (entry1.hash >>> shift) & (WIDTH - 1);
+        int fragment2 = (entry2.hash >>> shift) & (WIDTH - 1);
+        if (fragment1 == fragment2) {
+            return new BitmapNode(edit, 1 << fragment1, new Object[] {split(edit, shift + BITS, entry1, entry2)});
+        }
+        return new BitmapNode(edit, (1 << fragment1) | (1 << fragment2),
+                fragment1 < fragment2 ? new Object[] {entry1, entry2} : new Object[] {entry2, entry1});
+    }
+
+    private static class PersistentHashMapIterator<K, V> implements Iterator<Entry<K, V>> {
+
+        private final Object[][] stack = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private Entry<K, V> next;
+
+        private PersistentHashMapIterator(Node root) {
+            depth = -1;
+            if (root != null) {
+                push(root);
+                advance();
+            }
+        }
+
+        private void push(Node node) {
+            depth++;
+            stack[depth] = node.slots();
+            positions[depth] = 0;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                if (positions[depth] == stack[depth].length) {
+                    depth--;
+                    continue;
+                }
+                Object slot = stack[depth][positions[depth]++];
+                if (slot instanceof Node) {
+                    push((Node) slot);
+                } else {
+                    next = (Entry<K, V>) slot;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (hasNext()) {
+                Entry<K, V> output = next;
+                advance();
+                return output;
+            }
+            return null;
+        }
+    }
+}
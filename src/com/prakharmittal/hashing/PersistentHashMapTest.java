@@ -0,0 +1,184 @@
+package com.prakharmittal.hashing;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class PersistentHashMapTest {
+
+    private static final int TIMEOUT = 2000;
+    private PersistentHashMap<Integer, String> map;
+
+    @Before
+    public void setUp() {
+        map = PersistentHashMap.empty();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, map.size());
+        assertTrue(map.isEmpty());
+        assertNull(map.getRoot());
+        assertSame(map, PersistentHashMap.<String, String>empty());
+        assertEquals("[]", map.toString());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_NullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.assoc(null, "A");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.assoc(0, null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.dissoc(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.get(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.contains(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_AssocLeavesOriginal() {
+        PersistentHashMap<Integer, String> one = map.assoc(1, "A");
+        PersistentHashMap<Integer, String> two = one.assoc(2, "B");
+        PersistentHashMap<Integer, String> replaced = two.assoc(1, "AA");
+
+        assertEquals(0, map.size());
+        assertEquals(1, one.size());
+        assertEquals(2, two.size());
+        assertEquals(2, replaced.size());
+        assertEquals("A", one.get(1));
+        assertFalse(one.contains(2));
+        assertEquals("A", two.get(1));
+        assertEquals("AA", replaced.get(1));
+        assertThrows(NoSuchElementException.class, () -> {
+            one.get(2);
+        });
+        assertEquals("X", one.getOrDefault(2, "X"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_NoOpUpdatesShareTheMap() {
+        String value = "A";
+        PersistentHashMap<Integer, String> one = map.assoc(1, value);
+        assertSame(one, one.assoc(1, value));
+        assertSame(one, one.dissoc(2));
+        assertSame(map, map.dissoc(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_ManyKeysAndSnapshots() {
+        PersistentHashMap<Integer, String> full = map;
+        for (int i = 0; i < 10000; i++) {
+            full = full.assoc(i, "V" + i);
+        }
+        PersistentHashMap<Integer, String> half = full;
+        for (int i = 0; i < 10000; i += 2) {
+            half = half.dissoc(i);
+        }
+        assertEquals(10000, full.size());
+        assertEquals(5000, half.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals("V" + i, full.get(i));
+            assertEquals(i % 2 == 1, half.contains(i));
+        }
+        PersistentHashMap<Integer, String> none = half;
+        for (int i = 1; i < 10000; i += 2) {
+            none = none.dissoc(i);
+        }
+        assertTrue(none.isEmpty());
+        assertNull(none.getRoot());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_HashCollisions() {
+        PersistentHashMap<String, Integer> colliding = PersistentHashMap.empty();
+        String[] keys = {"AaAa", "AaBB", "BBAa", "BBBB"};
+        for (int i = 0; i < keys.length; i++) {
+            colliding = colliding.assoc(keys[i], i);
+        }
+        colliding = colliding.assoc("other", 9);
+        assertEquals(5, colliding.size());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(Integer.valueOf(i), colliding.get(keys[i]));
+        }
+        assertFalse(colliding.contains("AaAb"));
+
+        colliding = colliding.assoc("BBAa", 22);
+        assertEquals(Integer.valueOf(22), colliding.get("BBAa"));
+        colliding = colliding.dissoc("AaBB").dissoc("AaAa").dissoc("BBBB");
+        assertEquals(2, colliding.size());
+        assertEquals(Integer.valueOf(22), colliding.get("BBAa"));
+        assertEquals(Integer.valueOf(9), colliding.get("other"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_Transient() {
+        PersistentHashMap<Integer, String> base = map.assoc(-1, "Base");
+        PersistentHashMap.Transient<Integer, String> builder = base.asTransient();
+        for (int i = 0; i < 5000; i++) {
+            builder.put(i, "V" + i);
+        }
+        for (int i = 0; i < 5000; i += 5) {
+            builder.remove(i);
+        }
+        builder.remove(-2);
+        assertEquals(4001, builder.size());
+        assertEquals("V1", builder.getOrDefault(1, null));
+        PersistentHashMap<Integer, String> built = builder.persistent();
+
+        assertEquals(1, base.size());
+        assertFalse(base.contains(1));
+        assertEquals(4001, built.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 5 == 0 ? null : "V" + i, built.getOrDefault(i, null));
+        }
+        assertThrows(IllegalStateException.class, () -> {
+            builder.put(1, "X");
+        });
+        PersistentHashMap<Integer, String> changed = built.assoc(1, "X").dissoc(2);
+        assertEquals("X", changed.get(1));
+        assertFalse(changed.contains(2));
+        assertEquals("V1", built.get(1));
+        assertTrue(built.contains(2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_IteratorEqualsHashCode() {
+        PersistentHashMap<Integer, String> forward = map;
+        PersistentHashMap<Integer, String> backward = map;
+        for (int i = 0; i < 100; i++) {
+            forward = forward.assoc(i, "V" + i);
+            backward = backward.assoc(99 - i, "V" + (99 - i));
+        }
+        int count = 0;
+        for (PersistentHashMap.Entry<Integer, String> entry: forward) {
+            assertEquals("V" + entry.getKey(), entry.getValue());
+            count++;
+        }
+        assertEquals(100, count);
+        assertEquals(forward, backward);
+        assertEquals(forward.hashCode(), backward.hashCode());
+        assertNotEquals(forward, backward.assoc(0, "X"));
+        assertNotEquals(forward, backward.dissoc(0));
+        assertEquals("[1=A]", map.assoc(1, "A").toString());
+    }
+}
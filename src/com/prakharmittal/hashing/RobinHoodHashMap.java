@@ -0,0 +1,336 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class RobinHoodHashMap<K, V> implements Iterable<RobinHoodHashMap.Entry<K, V>> {
+
+    private Entry<K, V>[] table;
+    private int size;
+
+    public static final int INITIAL_CAPACITY = 16;
+    public static final double MAX_LOAD_FACTOR = 0.9;
+
+    public RobinHoodHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public RobinHoodHashMap(int initialCapacity) {
+        table = new Entry[Hashing.tableSizeFor(initialCapacity)];
+    }
+
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        if ((size + 1.0) / table.length > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * table.length);
+        }
+        int index = indexFor(key, table.length);
+        int distance = 0;
+        while (table[index] != null && table[index].getDistance() >= distance) {
+            if (table[index].getDistance() == distance && table[index].getKey().equals(key)) {
+                V output = table[index].getValue();
+                table[index].setValue(value);
+                return output;
+            }
+            distance++;
+            index = nextIndex(index, table.length);
+        }
+        place(table, new Entry<>(key, value, distance), index);
+        size++;
+        return null;
+    }
+
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be removed must not be null.");
+        }
+        int index = find(key);
+        if (index < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        V output = table[index].getValue();
+        int next = nextIndex(index, table.length);
+        while (table[next] != null && table[next].getDistance() > 0) {
+            table[index] = table[next];
+            table[index].setDistance(table[index].getDistance() - 1);
+            index = next;
+            next = nextIndex(next, table.length);
+        }
+        table[index] = null;
+        size--;
+        return output;
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        int index = find(key);
+        if (index < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        return table[index].getValue();
+    }
+
+    public boolean contains(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        return find(key) >= 0;
+    }
+
+    // Equal keys share a home slot, so only entries displaced exactly as far as the probe can match,
+    // and a richer entry means the key would already have been placed
+    private int find(K key) {
+        int index = indexFor(key, table.length);
+        int distance = 0;
+        while (table[index] != null && table[index].getDistance() >= distance) {
+            if (table[index].getDistance() == distance && table[index].getKey().equals(key)) {
+                return index;
+            }
+            distance++;
+            index = nextIndex(index, table.length);
+        }
+        return -1;
+    }
+
+    private void place(Entry<K, V>[] newTable, Entry<K, V> entry, int index) {
+        while (newTable[index] != null) {
+            if (newTable[index].getDistance() < entry.getDistance()) {
+                Entry<K, V> displaced = newTable[index];
+                newTable[index] = entry;
+                entry = displaced;
+            }
+            entry.setDistance(entry.getDistance() + 1);
+            index = nextIndex(index, newTable.length);
+        }
+        newTable[index] = entry;
+    }
+
+    public HashSet<Entry<K, V>> entries() {
+        HashSet<Entry<K, V>> output = new HashSet<>(size);
+        for (Entry<K, V> entry: this) {
+            output.add(entry);
+        }
+        return output;
+    }
+
+    public HashSet<K> keys() {
+        HashSet<K> output = new HashSet<>(size);
+        for (Entry<K, V> entry: this) {
+            output.add(entry.getKey());
+        }
+        return output;
+    }
+
+    public ArrayList<V> values() {
+        ArrayList<V> output = new ArrayList<>(size);
+        for (Entry<K, V> entry: this) {
+            output.addToBack(entry.getValue());
+        }
+        return output;
+    }
+
+    public void resizeBackingTable(int length) {
+        if (length < size) {
+            throw new IllegalArgumentException("Length should be greater than " + size + ".");
+        }
+        Entry<K, V>[] newTable = new Entry[Hashing.tableSizeFor(length)];
+        for (Entry<K, V> entry: table) {
+            if (entry != null) {
+                entry.setDistance(0);
+                place(newTable, entry, indexFor(entry.getKey(), newTable.length));
+            }
+        }
+        table = newTable;
+    }
+
+    public int getMaxProbeLength() {
+        int max = 0;
+        for (Entry<K, V> entry: this) {
+            max = Math.max(max, entry.getDistance());
+        }
+        return max;
+    }
+
+    public double getAverageProbeLength() {
+        if (size == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (Entry<K, V> entry: this) {
+            total += entry.getDistance();
+        }
+        return (double) total / size;
+    }
+
+    private int indexFor(Object key, int length) {
+        return Hashing.mix(key.hashCode()) & (length - 1);
+    }
+
+    private int nextIndex(int index, int length) {
+        return (index + 1) & (length - 1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        table = new Entry[table.length];
+        size = 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof RobinHoodHashMap<?, ?>) {
+            RobinHoodHashMap<Object, Object> other = (RobinHoodHashMap<Object, Object>) o;
+            if (size == other.size) {
+                for (Entry<K, V> entry: this) {
+                    try {
+                        if (!other.get(entry.getKey()).equals(entry.getValue())) {
+                            return false;
+                        }
+                    } catch (Exception e) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (Entry<K, V> entry: this) {
+            hashCode ^= entry.getKey().hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String prefix = "";
+        builder.append("[");
+        for (Entry<K, V> entry: this) {
+            builder.append(prefix);
+            prefix = ", ";
+            builder.append(entry.toString());
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    Entry<K, V>[] getTable() {
+        return table;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new RobinHoodHashMapIterator();
+    }
+
+    static class Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private int distance;
+
+        Entry(K key, V value) {
+            this(key, value, 0);
+        }
+
+        private Entry(K key, V value, int distance) {
+            this.key = key;
+            this.value = value;
+            this.distance = distance;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        private void setValue(V value) {
+            this.value = value;
+        }
+
+        private void setDistance(int distance) {
+            this.distance = distance;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s=%s", key.toString(), value.toString());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof Entry<?, ?>) {
+                Entry<?, ?> e = (Entry<?, ?>) o;
+                return e.getKey().equals(key) && e.getValue().equals(value);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+    }
+
+    private class RobinHoodHashMapIterator implements Iterator<Entry<K, V>> {
+
+        private int i;
+        private int j;
+
+        private RobinHoodHashMapIterator() {
+            i = 0;
+            j = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (j < size) {
+                while (i < table.length) {
+                    if (table[i] != null) {
+                        return true;
+                    }
+                    i++;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (hasNext()) {
+                j++;
+                return table[i++];
+            }
+            return null;
+        }
+    }
+}
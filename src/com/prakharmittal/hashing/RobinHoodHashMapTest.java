@@ -0,0 +1,237 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RobinHoodHashMapTest {
+
+    private static final int TIMEOUT = 200;
+    private RobinHoodHashMap<Integer, String> map;
+    private RobinHoodHashMap<Integer, String> mapZero;
+
+    @Before
+    public void setUp() {
+        map = new RobinHoodHashMap<>(5);
+        mapZero = new RobinHoodHashMap<>(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, map.size());
+        assertArrayEquals(new RobinHoodHashMap.Entry[8], map.getTable());
+
+        assertEquals(0, mapZero.size());
+        assertArrayEquals(new RobinHoodHashMap.Entry[4], mapZero.getTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_PutNullKey() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(null, "A");
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_PutNullValue() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(0, null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_PutAddReplace() {
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(4, "E"));
+        assertNull(map.put(55, "AA"));
+        assertEquals(3, map.size());
+
+        assertEquals("A", map.put(0, "B"));
+        assertEquals("E", map.put(4, "F"));
+        assertEquals(3, map.size());
+        assertEquals("B", map.get(0));
+        assertEquals("F", map.get(4));
+        assertEquals("AA", map.get(55));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_PutResize() {
+        for (int i = 0; i < 7; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        assertEquals(8, map.getTable().length);
+
+        assertNull(map.put(7, "V7"));
+        assertEquals(16, map.getTable().length);
+        for (int i = 0; i < 8; i++) {
+            assertEquals("V" + i, map.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_RemoveNullKey() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.remove(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_RemoveNotFound() {
+        assertNull(map.put(4, "EE"));
+        assertNull(map.put(9, "E"));
+        assertEquals(2, map.size());
+
+        assertThrows(NoSuchElementException.class, () -> {
+            map.remove(2);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_RemoveFound() {
+        for (int i = 0; i < 100; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        for (int i = 0; i < 100; i += 3) {
+            assertEquals("V" + i, map.remove(i));
+        }
+        assertEquals(66, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 3 != 0, map.contains(i));
+        }
+        for (RobinHoodHashMap.Entry<Integer, String> entry: map.getTable()) {
+            if (entry != null) {
+                assertTrue(entry.getDistance() >= 0);
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t09_GetNullKey() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.get(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t10_GetNotFound() {
+        assertNull(map.put(1, "B"));
+        assertThrows(NoSuchElementException.class, () -> {
+            map.get(2);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t11_ContainsNullKey() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.contains(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t12_HighLoadFactor() {
+        RobinHoodHashMap<Integer, String> large = new RobinHoodHashMap<>(1024);
+        for (int i = 0; i < 921; i++) {
+            assertNull(large.put(i * 31, "V" + i));
+        }
+        assertEquals(1024, large.getTable().length);
+        for (int i = 0; i < 921; i++) {
+            assertEquals("V" + i, large.get(i * 31));
+        }
+        assertTrue(large.getAverageProbeLength() < 8);
+        assertTrue(large.getMaxProbeLength() < 64);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t13_ProbeLengthEmpty() {
+        assertEquals(0, map.getMaxProbeLength());
+        assertEquals(0, map.getAverageProbeLength(), 0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t14_EntriesKeysValues() {
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(1, "B"));
+        assertNull(map.put(2, "C"));
+
+        HashSet<RobinHoodHashMap.Entry<Integer, String>> entries = new HashSet<>();
+        entries.add(new RobinHoodHashMap.Entry<>(0, "A"));
+        entries.add(new RobinHoodHashMap.Entry<>(1, "B"));
+        entries.add(new RobinHoodHashMap.Entry<>(2, "C"));
+        assertEquals(entries, map.entries());
+
+        HashSet<Integer> keys = new HashSet<>();
+        keys.add(0);
+        keys.add(1);
+        keys.add(2);
+        assertEquals(keys, map.keys());
+
+        ArrayList<String> values = map.values();
+        assertEquals(3, values.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t15_ResizeIllegalLength() {
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(1, "B"));
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.resizeBackingTable(1);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t16_IsEmptyClear() {
+        assertTrue(map.isEmpty());
+        assertNull(map.put(0, "A"));
+        assertFalse(map.isEmpty());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertArrayEquals(new RobinHoodHashMap.Entry[8], map.getTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t17_Iterator() {
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(1, "B"));
+        assertNull(map.put(2, "C"));
+        assertNull(map.put(3, "D"));
+
+        HashSet<RobinHoodHashMap.Entry<Integer, String>> actual = new HashSet<>();
+        for (RobinHoodHashMap.Entry<Integer, String> entry: map) {
+            actual.add(entry);
+        }
+        assertEquals(map.entries(), actual);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t18_Equals() {
+        assertEquals(map, mapZero);
+        assertNotEquals(5, map);
+
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(4, "B"));
+        assertNotEquals(map, mapZero);
+
+        assertNull(mapZero.put(4, "B"));
+        assertNull(mapZero.put(0, "A"));
+        assertEquals(map, mapZero);
+        assertEquals(map.hashCode(), mapZero.hashCode());
+
+        assertEquals("B", mapZero.put(4, "C"));
+        assertNotEquals(map, mapZero);
+    }
+}
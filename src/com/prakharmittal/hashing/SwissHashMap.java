@@ -0,0 +1,316 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class SwissHashMap<K, V> implements Iterable<K> {
+
+    private Object[] keys;
+    private Object[] values;
+    private long[] control;
+    private int size;
+    private int tombstones;
+
+    public static final int INITIAL_CAPACITY = 16;
+    public static final double MAX_LOAD_FACTOR = 0.875;
+
+    static final int GROUP_WIDTH = 8;
+    static final byte EMPTY = (byte) 0x80;
+    static final byte DELETED = (byte) 0xFE;
+
+    private static final long LSBS = 0x0101010101010101L;
+    private static final long MSBS = 0x8080808080808080L;
+
+    public SwissHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public SwissHashMap(int initialCapacity) {
+        allocate(Math.max(GROUP_WIDTH, Hashing.tableSizeFor(initialCapacity)));
+    }
+
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        int hash = Hashing.mix(key.hashCode());
+        int index = find(key, hash);
+        if (index >= 0) {
+            V output = (V) values[index];
+            values[index] = value;
+            return output;
+        }
+        if ((size + tombstones + 1.0) / keys.length > MAX_LOAD_FACTOR) {
+            resizeBackingTable((size + 1.0) / keys.length > MAX_LOAD_FACTOR / 2 ? 2 * keys.length : keys.length);
+        }
+        index = findInsertSlot(hash);
+        if (controlAt(index) == DELETED) {
+            tombstones--;
+        }
+        keys[index] = key;
+        values[index] = value;
+        setControl(index, (byte) (hash & 0x7F));
+        size++;
+        return null;
+    }
+
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be removed must not be null.");
+        }
+        int index = find(key, Hashing.mix(key.hashCode()));
+        if (index < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        V output = (V) values[index];
+        keys[index] = null;
+        values[index] = null;
+        // Probes stop at any group that still has an empty slot, so such a group needs no tombstone
+        if (matchEmpty(control[index / GROUP_WIDTH]) != 0) {
+            setControl(index, EMPTY);
+        } else {
+            setControl(index, DELETED);
+            tombstones++;
+        }
+        size--;
+        return output;
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        int index = find(key, Hashing.mix(key.hashCode()));
+        if (index < 0) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the hashmap.");
+        }
+        return (V) values[index];
+    }
+
+    public boolean contains(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        return find(key, Hashing.mix(key.hashCode())) >= 0;
+    }
+
+    private int find(Object key, int hash) {
+        int groupMask = control.length - 1;
+        int group = (hash >>> 7) & groupMask;
+        for (int step = 1; ; step++) {
+            long word = control[group];
+            for (long matches = match(word, (byte) (hash & 0x7F)); matches != 0; matches &= matches - 1) {
+                int index = group * GROUP_WIDTH + (Long.numberOfTrailingZeros(matches) >>> 3);
+                if (keys[index].equals(key)) {
+                    return index;
+                }
+            }
+            if (matchEmpty(word) != 0) {
+                return -1;
+            }
+            group = (group + step) & groupMask;
+        }
+    }
+
+    private int findInsertSlot(int hash) {
+        int groupMask = control.length - 1;
+        int group = (hash >>> 7) & groupMask;
+        for (int step = 1; ; step++) {
+            long free = control[group] & MSBS;
+            if (free != 0) {
+                return group * GROUP_WIDTH + (Long.numberOfTrailingZeros(free) >>> 3);
+            }
+            group = (group + step) & groupMask;
+        }
+    }
+
+    // Flags every byte equal to the fragment, borrows can only add false positives above a real match
+    static long match(long word, byte fragment) {
+        long x = word ^ (LSBS * (fragment & 0xFF));
+        return (x - LSBS) & ~x & MSBS;
+    }
+
+    static long matchEmpty(long word) {
+        return word & ~(word << 6) & MSBS;
+    }
+
+    public HashSet<HashMap.Entry<K, V>> entries() {
+        HashSet<HashMap.Entry<K, V>> output = new HashSet<>(size);
+        for (int i = nextFull(0); i >= 0; i = nextFull(i + 1)) {
+            output.add(new HashMap.Entry<>((K) keys[i], (V) values[i]));
+        }
+        return output;
+    }
+
+    public HashSet<K> keys() {
+        HashSet<K> output = new HashSet<>(size);
+        for (K key: this) {
+            output.add(key);
+        }
+        return output;
+    }
+
+    public ArrayList<V> values() {
+        ArrayList<V> output = new ArrayList<>(size);
+        for (int i = nextFull(0); i >= 0; i = nextFull(i + 1)) {
+            output.addToBack((V) values[i]);
+        }
+        return output;
+    }
+
+    public void resizeBackingTable(int length) {
+        if (length < size) {
+            throw new IllegalArgumentException("Length should be greater than " + size + ".");
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        long[] oldControl = control;
+        allocate(Math.max(GROUP_WIDTH, Hashing.tableSizeFor(length)));
+        if (size + 1.0 > keys.length * MAX_LOAD_FACTOR) {
+            allocate(2 * keys.length);
+        }
+        for (int i = 0; i < oldKeys.length; i++) {
+            if ((oldControl[i / GROUP_WIDTH] & (0x80L << ((i % GROUP_WIDTH) << 3))) == 0) {
+                int hash = Hashing.mix(oldKeys[i].hashCode());
+                int index = findInsertSlot(hash);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                setControl(index, (byte) (hash & 0x7F));
+            }
+        }
+    }
+
+    private void allocate(int length) {
+        keys = new Object[length];
+        values = new Object[length];
+        control = new long[length / GROUP_WIDTH];
+        Arrays.fill(control, LSBS * (EMPTY & 0xFF));
+        tombstones = 0;
+    }
+
+    private byte controlAt(int index) {
+        return (byte) (control[index / GROUP_WIDTH] >>> ((index % GROUP_WIDTH) << 3));
+    }
+
+    private void setControl(int index, byte value) {
+        int shift = (index % GROUP_WIDTH) << 3;
+        int group = index / GROUP_WIDTH;
+        control[group] = (control[group] & ~(0xFFL << shift)) | ((value & 0xFFL) << shift);
+    }
+
+    private int nextFull(int from) {
+        if (from >= keys.length) {
+            return -1;
+        }
+        int group = from / GROUP_WIDTH;
+        long full = ~control[group] & MSBS & (-1L << ((from % GROUP_WIDTH) << 3));
+        while (full == 0) {
+            if (++group == control.length) {
+                return -1;
+            }
+            full = ~control[group] & MSBS;
+        }
+        return group * GROUP_WIDTH + (Long.numberOfTrailingZeros(full) >>> 3);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        allocate(keys.length);
+        size = 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof SwissHashMap<?, ?>) {
+            SwissHashMap<?, ?> other = (SwissHashMap<?, ?>) o;
+            if (size == other.size) {
+                for (int i = nextFull(0); i >= 0; i = nextFull(i + 1)) {
+                    int index = other.find(keys[i], Hashing.mix(keys[i].hashCode()));
+                    if (index < 0 || !other.values[index].equals(values[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (K key: this) {
+            hashCode ^= key.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String prefix = "";
+        builder.append("[");
+        for (int i = nextFull(0); i >= 0; i = nextFull(i + 1)) {
+            builder.append(prefix);
+            prefix = ", ";
+            builder.append(String.format("%s=%s", keys[i].toString(), values[i].toString()));
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    Object[] getKeyTable() {
+        return keys;
+    }
+
+    long[] getControl() {
+        return control;
+    }
+
+    int getTombstones() {
+        return tombstones;
+    }
+
+    @Override
+    public Iterator<K> iterator() {
+        return new SwissHashMapIterator();
+    }
+
+    private class SwissHashMapIterator implements Iterator<K> {
+
+        private int i;
+
+        private SwissHashMapIterator() {
+            i = nextFull(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return i >= 0;
+        }
+
+        @Override
+        public K next() {
+            if (hasNext()) {
+                K output = (K) keys[i];
+                i = nextFull(i + 1);
+                return output;
+            }
+            return null;
+        }
+    }
+}
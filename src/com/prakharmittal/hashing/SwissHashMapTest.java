@@ -0,0 +1,269 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SwissHashMapTest {
+
+    private static final int TIMEOUT = 200;
+    private SwissHashMap<Integer, String> map;
+    private SwissHashMap<Integer, String> mapZero;
+
+    @Before
+    public void setUp() {
+        map = new SwissHashMap<>(5);
+        mapZero = new SwissHashMap<>(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, map.size());
+        assertArrayEquals(new Object[8], map.getKeyTable());
+        assertArrayEquals(new long[] {0x8080808080808080L}, map.getControl());
+
+        assertEquals(0, mapZero.size());
+        assertArrayEquals(new Object[8], mapZero.getKeyTable());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_PutNullKey() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(null, "A");
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_PutNullValue() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.put(0, null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_PutAddReplace() {
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(4, "E"));
+        assertNull(map.put(55, "AA"));
+        assertEquals(3, map.size());
+        assertEquals(3, Long.bitCount(~map.getControl()[0] & 0x8080808080808080L));
+
+        assertEquals("A", map.put(0, "B"));
+        assertEquals(3, map.size());
+        assertEquals("B", map.get(0));
+        assertEquals("E", map.get(4));
+        assertEquals("AA", map.get(55));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_PutResize() {
+        for (int i = 0; i < 200; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        assertEquals(200, map.size());
+        assertEquals(256, map.getKeyTable().length);
+        assertEquals(32, map.getControl().length);
+        for (int i = 0; i < 200; i++) {
+            assertEquals("V" + i, map.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_RemoveNullKey() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.remove(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_RemoveNotFound() {
+        assertNull(map.put(4, "EE"));
+        assertThrows(NoSuchElementException.class, () -> {
+            map.remove(2);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_RemoveFound() {
+        for (int i = 0; i < 100; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals("V" + i, map.remove(i));
+        }
+        assertEquals(50, map.size());
+
+        int occupied = 0;
+        for (long word: map.getControl()) {
+            occupied += Long.bitCount(~word & 0x8080808080808080L);
+        }
+        assertEquals(50, occupied);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, map.contains(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t09_GetNotFound() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.get(null);
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            map.get(2);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t10_ContainsNullKey() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.contains(null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t11_EntriesKeysValues() {
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(1, "B"));
+        assertNull(map.put(2, "C"));
+
+        HashSet<HashMap.Entry<Integer, String>> entries = new HashSet<>();
+        entries.add(new HashMap.Entry<>(0, "A"));
+        entries.add(new HashMap.Entry<>(1, "B"));
+        entries.add(new HashMap.Entry<>(2, "C"));
+        assertEquals(entries, map.entries());
+
+        HashSet<Integer> keys = new HashSet<>();
+        keys.add(0);
+        keys.add(1);
+        keys.add(2);
+        assertEquals(keys, map.keys());
+
+        ArrayList<String> values = map.values();
+        assertEquals(3, values.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t12_ResizeIllegalLength() {
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(1, "B"));
+        assertThrows(IllegalArgumentException.class, () -> {
+            map.resizeBackingTable(1);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t13_IsEmptyClear() {
+        assertTrue(map.isEmpty());
+        assertNull(map.put(0, "A"));
+        assertFalse(map.isEmpty());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertArrayEquals(new Object[8], map.getKeyTable());
+        assertArrayEquals(new long[] {0x8080808080808080L}, map.getControl());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t14_Iterator() {
+        for (int i = 0; i < 150; i++) {
+            assertNull(map.put(i, "V" + i));
+        }
+        HashSet<Integer> actual = new HashSet<>();
+        for (Integer key: map) {
+            actual.add(key);
+        }
+        assertEquals(map.keys(), actual);
+        assertEquals(150, actual.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t15_Equals() {
+        assertEquals(map, mapZero);
+        assertNotEquals(5, map);
+
+        assertNull(map.put(0, "A"));
+        assertNull(map.put(4, "B"));
+        assertNotEquals(map, mapZero);
+
+        assertNull(mapZero.put(4, "B"));
+        assertNull(mapZero.put(0, "A"));
+        assertEquals(map, mapZero);
+        assertEquals(map.hashCode(), mapZero.hashCode());
+
+        assertEquals("B", mapZero.put(4, "C"));
+        assertNotEquals(map, mapZero);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t16_Match() {
+        long word = 0x8080FE2A80052A11L;
+        assertEquals(0x0000008000008000L, SwissHashMap.match(word, (byte) 0x2A));
+        assertEquals(0x0000000000000080L, SwissHashMap.match(word, (byte) 0x11));
+        assertEquals(0L, SwissHashMap.match(word, (byte) 0x7F));
+        assertEquals(0x8080000080000000L, SwissHashMap.matchEmpty(word));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t17_Churn() {
+        for (int i = 0; i < 5000; i++) {
+            assertNull(map.put(i, "V" + i));
+            if (i >= 5) {
+                assertEquals("V" + (i - 5), map.remove(i - 5));
+            }
+        }
+        assertEquals(5, map.size());
+        assertEquals(8, map.getKeyTable().length);
+        assertTrue(map.getTombstones() <= 3);
+        for (int i = 4995; i < 5000; i++) {
+            assertEquals("V" + i, map.get(i));
+        }
+        assertFalse(map.contains(4994));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t18_CollidingKeys() {
+        SwissHashMap<Collider, Integer> colliders = new SwissHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            assertNull(colliders.put(new Collider(i), i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), colliders.get(new Collider(i)));
+        }
+        assertEquals(Integer.valueOf(50), colliders.remove(new Collider(50)));
+        assertFalse(colliders.contains(new Collider(50)));
+        assertTrue(colliders.contains(new Collider(51)));
+    }
+
+    private static class Collider {
+
+        private final int id;
+
+        private Collider(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider && ((Collider) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
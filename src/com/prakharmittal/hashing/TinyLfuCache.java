@@ -0,0 +1,368 @@
+package com.prakharmittal.hashing;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+public class TinyLfuCache<K, V> implements Iterable<K> {
+
+    private final HashMap<K, Entry<K, V>> index;
+    private final FrequencySketch sketch;
+    private final BiConsumer<? super K, ? super V> listener;
+    private final int capacity;
+    private final int windowCapacity;
+    private final int protectedCapacity;
+    private final AccessQueue<K, V> window = new AccessQueue<>();
+    private final AccessQueue<K, V> probation = new AccessQueue<>();
+    private final AccessQueue<K, V> protect = new AccessQueue<>();
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public static final double WINDOW_RATIO = 0.01;
+    public static final double PROTECTED_RATIO = 0.8;
+
+    static final byte WINDOW = 0;
+    static final byte PROBATION = 1;
+    static final byte PROTECTED = 2;
+
+    public TinyLfuCache(int capacity) {
+        this(capacity, null);
+    }
+
+    public TinyLfuCache(int capacity, BiConsumer<? super K, ? super V> listener) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        this.capacity = capacity;
+        this.listener = listener;
+        windowCapacity = Math.max(1, (int) (capacity * WINDOW_RATIO));
+        protectedCapacity = (int) ((capacity - windowCapacity) * PROTECTED_RATIO);
+        index = new HashMap<>(capacity, true);
+        sketch = new FrequencySketch(capacity);
+    }
+
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be added must not be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("The value to be added must not be null.");
+        }
+        sketch.increment(key);
+        Entry<K, V> entry = index.getOrDefault(key, null);
+        if (entry != null) {
+            V output = entry.value;
+            entry.value = value;
+            onAccess(entry);
+            return output;
+        }
+        insert(key, value);
+        return null;
+    }
+
+    // A single access on either path, so a miss that loads its value is counted in the sketch only once
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mapping) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be computed must not be null.");
+        } else if (mapping == null) {
+            throw new IllegalArgumentException("The mapping function must not be null.");
+        }
+        Entry<K, V> entry = lookup(key);
+        if (entry != null) {
+            return entry.value;
+        }
+        V value = mapping.apply(key);
+        if (value != null) {
+            insert(key, value);
+        }
+        return value;
+    }
+
+    private void insert(K key, V value) {
+        Entry<K, V> entry = new Entry<>(key, value);
+        index.put(key, entry);
+        window.linkHead(entry);
+        if (window.size > windowCapacity) {
+            Entry<K, V> candidate = window.tail;
+            window.unlink(candidate);
+            candidate.queue = PROBATION;
+            probation.linkHead(candidate);
+            if (index.size() > capacity) {
+                evict(candidate);
+            }
+        }
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        Entry<K, V> entry = lookup(key);
+        if (entry == null) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the cache.");
+        }
+        return entry.value;
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        Entry<K, V> entry = lookup(key);
+        return entry == null ? defaultValue : entry.value;
+    }
+
+    // Misses are counted in the sketch too, so a key that keeps coming back earns its admission
+    private Entry<K, V> lookup(K key) {
+        sketch.increment(key);
+        Entry<K, V> entry = index.getOrDefault(key, null);
+        if (entry == null) {
+            misses++;
+        } else {
+            hits++;
+            onAccess(entry);
+        }
+        return entry;
+    }
+
+    public boolean contains(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be searched must not be null.");
+        }
+        return index.contains(key);
+    }
+
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key to be removed must not be null.");
+        }
+        Entry<K, V> entry = index.getOrDefault(key, null);
+        if (entry == null) {
+            throw new NoSuchElementException("The key '" + key + "' is not found in the cache.");
+        }
+        index.remove(key);
+        queueOf(entry).unlink(entry);
+        return entry.value;
+    }
+
+    private void onAccess(Entry<K, V> entry) {
+        if (entry.queue == PROBATION) {
+            probation.unlink(entry);
+            entry.queue = PROTECTED;
+            protect.linkHead(entry);
+            if (protect.size > protectedCapacity) {
+                Entry<K, V> demoted = protect.tail;
+                protect.unlink(demoted);
+                demoted.queue = PROBATION;
+                probation.linkHead(demoted);
+            }
+        } else {
+            queueOf(entry).moveToHead(entry);
+        }
+    }
+
+    // The window's evictee only displaces the main region's victim if the sketch has seen it more often
+    private void evict(Entry<K, V> candidate) {
+        Entry<K, V> victim = probation.tail;
+        if (victim != candidate && sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+            victim = candidate;
+        }
+        probation.unlink(victim);
+        index.remove(victim.key);
+        evictions++;
+        if (listener != null) {
+            listener.accept(victim.key, victim.value);
+        }
+    }
+
+    private AccessQueue<K, V> queueOf(Entry<K, V> entry) {
+        if (entry.queue == WINDOW) {
+            return window;
+        } else if (entry.queue == PROBATION) {
+            return probation;
+        }
+        return protect;
+    }
+
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    public void clear() {
+        index.clear();
+        window.clear();
+        probation.clear();
+        protect.clear();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHitCount() {
+        return hits;
+    }
+
+    public long getMissCount() {
+        return misses;
+    }
+
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    public double getHitRatio() {
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String prefix = "";
+        builder.append("[");
+        for (AccessQueue<K, V> queue: new AccessQueue[] {window, probation, protect}) {
+            for (Entry<K, V> current = queue.head; current != null; current = current.next) {
+                builder.append(prefix);
+                prefix = ", ";
+                builder.append(current.toString());
+            }
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    int getWindowSize() {
+        return window.size;
+    }
+
+    int getProbationSize() {
+        return probation.size;
+    }
+
+    int getProtectedSize() {
+        return protect.size;
+    }
+
+    byte getQueue(K key) {
+        return index.get(key).queue;
+    }
+
+    FrequencySketch getSketch() {
+        return sketch;
+    }
+
+    // Window first, then probation, then protected, each most recently used first
+    @Override
+    public Iterator<K> iterator() {
+        return new TinyLfuCacheIterator();
+    }
+
+    static class Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private byte queue;
+        private Entry<K, V> previous;
+        private Entry<K, V> next;
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s=%s", key.toString(), value.toString());
+        }
+    }
+
+    private static final class AccessQueue<K, V> {
+
+        private Entry<K, V> head;
+        private Entry<K, V> tail;
+        private int size;
+
+        private void linkHead(Entry<K, V> entry) {
+            entry.previous = null;
+            entry.next = head;
+            if (head == null) {
+                tail = entry;
+            } else {
+                head.previous = entry;
+            }
+            head = entry;
+            size++;
+        }
+
+        private void unlink(Entry<K, V> entry) {
+            if (entry.previous == null) {
+                head = entry.next;
+            } else {
+                entry.previous.next = entry.next;
+            }
+            if (entry.next == null) {
+                tail = entry.previous;
+            } else {
+                entry.next.previous = entry.previous;
+            }
+            entry.previous = null;
+            entry.next = null;
+            size--;
+        }
+
+        private void moveToHead(Entry<K, V> entry) {
+            if (entry != head) {
+                unlink(entry);
+                linkHead(entry);
+            }
+        }
+
+        private void clear() {
+            head = tail = null;
+            size = 0;
+        }
+    }
+
+    private class TinyLfuCacheIterator implements Iterator<K> {
+
+        private int i;
+        private Entry<K, V> current;
+
+        private TinyLfuCacheIterator() {
+            i = WINDOW;
+            current = window.head;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (current == null && i < PROTECTED) {
+                i++;
+                current = i == PROBATION ? probation.head : protect.head;
+            }
+            return current != null;
+        }
+
+        @Override
+        public K next() {
+            if (hasNext()) {
+                K output = current.key;
+                current = current.next;
+                return output;
+            }
+            return null;
+        }
+    }
+}
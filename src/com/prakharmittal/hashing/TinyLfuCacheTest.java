@@ -0,0 +1,196 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TinyLfuCacheTest {
+
+    private static final int TIMEOUT = 2000;
+    private TinyLfuCache<Integer, String> cache;
+
+    @Before
+    public void setUp() {
+        cache = new TinyLfuCache<>(10);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t01_Initialization() {
+        assertEquals(0, cache.size());
+        assertTrue(cache.isEmpty());
+        assertEquals(10, cache.getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TinyLfuCache<Integer, String>(0);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t02_PutNullKeyValue() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            cache.put(null, "A");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            cache.put(0, null);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t03_PutAddReplace() {
+        assertNull(cache.put(0, "A"));
+        assertEquals(TinyLfuCache.WINDOW, cache.getQueue(0));
+        assertNull(cache.put(1, "B"));
+        assertEquals(TinyLfuCache.PROBATION, cache.getQueue(0));
+        assertEquals(1, cache.getWindowSize());
+        assertEquals(1, cache.getProbationSize());
+
+        assertEquals("A", cache.put(0, "AA"));
+        assertEquals(TinyLfuCache.PROTECTED, cache.getQueue(0));
+        assertEquals("AA", cache.get(0));
+        assertEquals(2, cache.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t04_GetMiss() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            cache.get(null);
+        });
+        assertNull(cache.put(0, "A"));
+        assertThrows(NoSuchElementException.class, () -> {
+            cache.get(1);
+        });
+        assertEquals("X", cache.getOrDefault(1, "X"));
+        assertEquals("A", cache.getOrDefault(0, "X"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t05_Remove() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            cache.remove(null);
+        });
+        for (int i = 0; i < 5; i++) {
+            assertNull(cache.put(i, "V" + i));
+        }
+        assertEquals("V0", cache.get(0));
+        assertEquals("V0", cache.remove(0));
+        assertEquals("V4", cache.remove(4));
+        assertEquals("V2", cache.remove(2));
+        assertEquals(2, cache.size());
+        assertEquals(0, cache.getProtectedSize());
+        assertEquals(0, cache.getWindowSize());
+        assertThrows(NoSuchElementException.class, () -> {
+            cache.remove(2);
+        });
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t06_BoundedSize() {
+        StringBuilder evicted = new StringBuilder();
+        TinyLfuCache<Integer, String> bounded = new TinyLfuCache<>(10, (key, value) -> evicted.append(key));
+        for (int i = 0; i < 100; i++) {
+            assertNull(bounded.put(i, "V" + i));
+            assertTrue(bounded.size() <= 10);
+        }
+        assertEquals(10, bounded.size());
+        assertEquals(90, bounded.getEvictionCount());
+        assertFalse(evicted.toString().isEmpty());
+        assertEquals(bounded.size(), bounded.getWindowSize() + bounded.getProbationSize()
+                + bounded.getProtectedSize());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t07_FrequentKeyIsAdmitted() {
+        for (int i = 0; i < 10; i++) {
+            assertNull(cache.put(i, "V" + i));
+        }
+        for (int i = 0; i < 5; i++) {
+            assertNull(cache.getOrDefault(100, null));
+        }
+        assertNull(cache.put(100, "Hot"));
+        assertNull(cache.put(101, "Cold"));
+        assertNull(cache.put(102, "Cold"));
+        assertTrue(cache.contains(100));
+        assertFalse(cache.contains(101));
+        assertTrue(cache.contains(102));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t08_ProtectedDemotion() {
+        for (int i = 0; i < 10; i++) {
+            assertNull(cache.put(i, "V" + i));
+        }
+        for (int i = 0; i < 9; i++) {
+            assertEquals("V" + i, cache.get(i));
+        }
+        assertEquals(7, cache.getProtectedSize());
+        assertEquals(2, cache.getProbationSize());
+        assertEquals(TinyLfuCache.PROBATION, cache.getQueue(1));
+        assertEquals(TinyLfuCache.PROTECTED, cache.getQueue(8));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t09_ScanResistance() {
+        ArrayList<String> trace = new ArrayList<>();
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 50; i++) {
+                trace.addToBack("hot" + i);
+            }
+            for (int i = 0; i < 200; i++) {
+                trace.addToBack("scan" + (round * 200 + i));
+            }
+        }
+        double lru = TraceReplay.hitRatio(trace, TraceReplay.lruAccess(100));
+        double tinyLfu = TraceReplay.hitRatio(trace, TraceReplay.tinyLfuAccess(100));
+        assertEquals(0, lru, 1e-9);
+        assertTrue(tinyLfu > 0.15);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t10_IteratorAndClear() {
+        for (int i = 0; i < 10; i++) {
+            assertNull(cache.put(i, "V" + i));
+        }
+        int count = 0;
+        for (Integer key: cache) {
+            assertTrue(cache.contains(key));
+            count++;
+        }
+        assertEquals(10, count);
+        cache.clear();
+        assertTrue(cache.isEmpty());
+        assertEquals("[]", cache.toString());
+        assertFalse(cache.iterator().hasNext());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void t11_ComputeIfAbsentCountsOnce() {
+        assertEquals("V7", cache.computeIfAbsent(7, key -> "V" + key));
+        assertEquals(1, cache.getSketch().frequency(7));
+        assertEquals(1, cache.getMissCount());
+        assertEquals("V7", cache.computeIfAbsent(7, key -> "other"));
+        assertEquals(2, cache.getSketch().frequency(7));
+        assertEquals(1, cache.getHitCount());
+
+        assertNull(cache.computeIfAbsent(8, key -> null));
+        assertFalse(cache.contains(8));
+        assertThrows(IllegalArgumentException.class, () -> {
+            cache.computeIfAbsent(null, key -> "V");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            cache.computeIfAbsent(9, null);
+        });
+    }
+}
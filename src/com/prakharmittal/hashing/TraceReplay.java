@@ -0,0 +1,79 @@
+package com.prakharmittal.hashing;
+
+import com.prakharmittal.list.ArrayList;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Replays a key trace, one key per line, against LruCache and TinyLfuCache of the same capacity
+public class TraceReplay {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: java com.prakharmittal.hashing.TraceReplay <trace file> <capacity>");
+            return;
+        }
+        ArrayList<String> trace = readTrace(args[0]);
+        int capacity = Integer.parseInt(args[1]);
+        System.out.println("Trace: " + trace.size() + " accesses\tCapacity: " + capacity + "\n");
+        System.out.println(report("LRU", trace, lruAccess(capacity)));
+        System.out.println(report("W-TinyLFU", trace, tinyLfuAccess(capacity)));
+    }
+
+    static ArrayList<String> readTrace(String path) throws IOException {
+        ArrayList<String> trace = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(path))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    trace.addToBack(line.split("\\s+")[0]);
+                }
+            }
+        }
+        return trace;
+    }
+
+    // Each access returns whether it hit, loading the key into the cache on a miss
+    static Predicate<String> lruAccess(int capacity) {
+        LruCache<String, String> cache = new LruCache<>(capacity);
+        return key -> {
+            if (cache.getOrDefault(key, null) != null) {
+                return true;
+            }
+            cache.put(key, key);
+            return false;
+        };
+    }
+
+    static Predicate<String> tinyLfuAccess(int capacity) {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(capacity);
+        // A lookup followed by put would count every miss twice in the admission sketch
+        return key -> {
+            long misses = cache.getMissCount();
+            cache.computeIfAbsent(key, Function.identity());
+            return cache.getMissCount() == misses;
+        };
+    }
+
+    static double hitRatio(ArrayList<String> trace, Predicate<String> access) {
+        int hits = 0;
+        for (String key: trace) {
+            if (access.test(key)) {
+                hits++;
+            }
+        }
+        return trace.isEmpty() ? 0 : (double) hits / trace.size();
+    }
+
+    private static String report(String name, ArrayList<String> trace, Predicate<String> access) {
+        long start = System.nanoTime();
+        double hitRatio = hitRatio(trace, access);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return String.format("%-12s hit ratio: %6.2f%%\t%,12.0f ops/sec", name + ":", 100 * hitRatio,
+                trace.size() / Math.max(seconds, 1e-9));
+    }
+}
@@ -0,0 +1,199 @@
+package com.prakharmittal.hashing;
+
+// The AVL tree that indexes a treeified bucket. The bucket's entries keep their chain for iteration, and the
+// chain is doubly linked so that an entry found through the tree can be unlinked without a scan
+final class TreeBin {
+
+    private TreeBin() {
+    }
+
+    interface Node<N extends Node<N>> {
+
+        Object getKey();
+
+        int getHash();
+
+        N getNextNode();
+
+        void setNextNode(N next);
+
+        N getPrevious();
+
+        void setPrevious(N previous);
+
+        N getLeft();
+
+        void setLeft(N left);
+
+        N getRight();
+
+        void setRight(N right);
+
+        int getHeight();
+
+        void setHeight(int height);
+    }
+
+    // Links the previous pointers of a chain of nodes and builds the tree over them, returning its root
+    static <N extends Node<N>> N treeify(N head) {
+        N root = null;
+        N previous = null;
+        for (N current = head; current != null; current = current.getNextNode()) {
+            current.setPrevious(previous);
+            previous = current;
+            root = add(current, root);
+        }
+        return root;
+    }
+
+    // Puts the node in front of the chain's head and into the tree, returning the tree's new root
+    static <N extends Node<N>> N prepend(N node, N head, N root) {
+        node.setNextNode(head);
+        node.setPrevious(null);
+        if (head != null) {
+            head.setPrevious(node);
+        }
+        return add(node, root);
+    }
+
+    // Takes the node out of the chain, returning the chain's new head
+    static <N extends Node<N>> N unlink(N node, N head) {
+        N next = node.getNextNode();
+        if (next != null) {
+            next.setPrevious(node.getPrevious());
+        }
+        if (node.getPrevious() == null) {
+            return next;
+        }
+        node.getPrevious().setNextNode(next);
+        return head;
+    }
+
+    // Tree nodes are ordered by hash, then by compareTo when both keys share a Comparable class
+    private static int compareKeys(Object key1, int hash1, Object key2, int hash2) {
+        if (hash1 != hash2) {
+            return hash1 < hash2 ? -1 : 1;
+        } else if (key1 instanceof Comparable<?> && key1.getClass() == key2.getClass()) {
+            return ((Comparable<Object>) key1).compareTo(key2);
+        }
+        return 0;
+    }
+
+    // Gives keys that compareKeys cannot tell apart a fixed order, so every node has one place in the tree
+    private static int order(Node<?> node1, Node<?> node2) {
+        int order = compareKeys(node1.getKey(), node1.getHash(), node2.getKey(), node2.getHash());
+        if (order == 0) {
+            order = node1.getKey().getClass().getName().compareTo(node2.getKey().getClass().getName());
+        }
+        if (order == 0) {
+            order = Integer.compare(System.identityHashCode(node1.getKey()), System.identityHashCode(node2.getKey()));
+        }
+        return order;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.getHeight();
+    }
+
+    private static void update(Node<?> node) {
+        node.setHeight(Math.max(height(node.getLeft()), height(node.getRight())) + 1);
+    }
+
+    private static <N extends Node<N>> N rotateLeft(N node) {
+        N newParent = node.getRight();
+        node.setRight(newParent.getLeft());
+        newParent.setLeft(node);
+        update(node);
+        update(newParent);
+        return newParent;
+    }
+
+    private static <N extends Node<N>> N rotateRight(N node) {
+        N newParent = node.getLeft();
+        node.setLeft(newParent.getRight());
+        newParent.setRight(node);
+        update(node);
+        update(newParent);
+        return newParent;
+    }
+
+    private static <N extends Node<N>> N balance(N node) {
+        update(node);
+        int balanceFactor = height(node.getLeft()) - height(node.getRight());
+        if (balanceFactor > 1) {
+            if (height(node.getLeft().getLeft()) < height(node.getLeft().getRight())) {
+                node.setLeft(rotateLeft(node.getLeft()));
+            }
+            node = rotateRight(node);
+        } else if (balanceFactor < -1) {
+            if (height(node.getRight().getRight()) < height(node.getRight().getLeft())) {
+                node.setRight(rotateRight(node.getRight()));
+            }
+            node = rotateLeft(node);
+        }
+        return node;
+    }
+
+    static <N extends Node<N>> N add(N entry, N node) {
+        if (node == null) {
+            entry.setLeft(null);
+            entry.setRight(null);
+            entry.setHeight(1);
+            return entry;
+        } else if (order(entry, node) < 0) {
+            node.setLeft(add(entry, node.getLeft()));
+        } else {
+            node.setRight(add(entry, node.getRight()));
+        }
+        return balance(node);
+    }
+
+    static <N extends Node<N>> N remove(N entry, N node) {
+        if (node == entry) {
+            if (node.getLeft() == null) {
+                return node.getRight();
+            } else if (node.getRight() == null) {
+                return node.getLeft();
+            }
+            N successor = node.getRight();
+            while (successor.getLeft() != null) {
+                successor = successor.getLeft();
+            }
+            successor.setRight(remove(successor, node.getRight()));
+            successor.setLeft(node.getLeft());
+            return balance(successor);
+        }
+        int order = order(entry, node);
+        if (order < 0 || (order == 0 && contains(entry, node.getLeft()))) {
+            node.setLeft(remove(entry, node.getLeft()));
+        } else {
+            node.setRight(remove(entry, node.getRight()));
+        }
+        return balance(node);
+    }
+
+    private static boolean contains(Node<?> entry, Node<?> node) {
+        return node != null && (node == entry || contains(entry, node.getLeft()) || contains(entry, node.getRight()));
+    }
+
+    static <N extends Node<N>> N find(Object key, int hash, N node) {
+        while (node != null) {
+            int order = compareKeys(key, hash, node.getKey(), node.getHash());
+            if (order < 0) {
+                node = node.getLeft();
+            } else if (order > 0) {
+                node = node.getRight();
+            } else if (node.getKey().equals(key)) {
+                return node;
+            } else {
+                // Keys that neither hash nor compareTo can order may sit on either side
+                N found = find(key, hash, node.getRight());
+                if (found != null) {
+                    return found;
+                }
+                node = node.getLeft();
+            }
+        }
+        return null;
+    }
+}